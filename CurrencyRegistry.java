@@ -0,0 +1,242 @@
+/*
+ * CurrencyRegistry.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>A compact registry of the available {@link Currency} instances. Each currency
+ * has a small integer id, and its ISO 4217 code, fraction digits and numeric code
+ * are kept in flat arrays indexed by id. A 3-letter code is found by a single
+ * array lookup, without locale data or hashing.</p>
+ *
+ * <p>The tables are built once, from the currencies of the runtime, the first
+ * time the registry is used.</p>
+ *
+ * <p>The registry also resolves the currency of the <em>default locale</em> once
+ * and caches currency symbols for that locale. The cache follows changes made
+ * with {@link Locale#setDefault(Locale)}; {@link #refreshDefault()} forces it to
+ * be resolved again.</p>
+ */
+final public class CurrencyRegistry {
+	/** Number of possible 3-letter codes, AAA to ZZZ */
+	private static final int CODE_SLOTS = 26 * 26 * 26;
+
+	/** Currency for the default locale and its cached symbols */
+	private static final class Defaults {
+		final Locale locale;
+		final ConcurrentMap<Currency, String> symbols = new ConcurrentHashMap<Currency, String>();
+		/** Resolved on first use, since not every locale has a currency */
+		Currency currency;
+
+		Defaults(Locale locale) {
+			this.locale = locale;
+		}
+	}
+
+	/** The precomputed tables; a holder class so they are built on first use */
+	private static final class Tables {
+		/** Currency id + 1 for each 3-letter code slot, or 0 if there is no currency */
+		static final short[] idByCode = new short[CODE_SLOTS];
+		static final Currency[] currencies;
+		static final String[] codes;
+		static final byte[] fractionDigits;
+		static final short[] numericCodes;
+
+		static {
+			Set<Currency> available = Currency.getAvailableCurrencies();
+			String[] sorted = new String[available.size()];
+			int count = 0;
+			for (Currency currency : available) {
+				sorted[count++] = currency.getCurrencyCode();
+			}
+			Arrays.sort(sorted);
+
+			currencies = new Currency[count];
+			codes = sorted;
+			fractionDigits = new byte[count];
+			numericCodes = new short[count];
+			for (int id = 0; id < count; id++) {
+				Currency currency = Currency.getInstance(sorted[id]);
+				currencies[id] = currency;
+				fractionDigits[id] = (byte) currency.getDefaultFractionDigits();
+				numericCodes[id] = (short) currency.getNumericCode();
+				int slot = codeSlot(sorted[id]);
+				if (slot >= 0) {
+					idByCode[slot] = (short) (id + 1);
+				}
+			}
+		}
+	}
+
+	/** The resolved default-locale currency */
+	private static volatile Defaults defaults;
+
+	/** Not instantiated */
+	private CurrencyRegistry() {
+	}
+
+	/**
+	 * Gets the number of currencies in the registry. Ids are from 0 to size() - 1.
+	 *
+	 * @return the number of currencies
+	 */
+	public static int size() {
+		return Tables.currencies.length;
+	}
+
+	/**
+	 * Gets the id of a currency code.
+	 *
+	 * @param code the ISO 4217 currency code
+	 * @return the id, or -1 if there is no such currency
+	 */
+	public static int getId(String code) {
+		int slot = codeSlot(code);
+		return (slot < 0) ? -1 : Tables.idByCode[slot] - 1;
+	}
+
+	/**
+	 * Gets the id of a currency.
+	 *
+	 * @param currency the currency
+	 * @return the id
+	 */
+	public static int getId(Currency currency) {
+		return getId(currency.getCurrencyCode());
+	}
+
+	/**
+	 * Gets the currency for an id.
+	 *
+	 * @param id the id
+	 * @return the currency
+	 */
+	public static Currency getCurrency(int id) {
+		return Tables.currencies[id];
+	}
+
+	/**
+	 * Gets the ISO 4217 code for an id.
+	 *
+	 * @param id the id
+	 * @return the currency code
+	 */
+	public static String getCode(int id) {
+		return Tables.codes[id];
+	}
+
+	/**
+	 * Gets the default fraction digits for an id.
+	 *
+	 * @param id the id
+	 * @return the fraction digits, or -1 for pseudo-currencies
+	 * @see Currency#getDefaultFractionDigits()
+	 */
+	public static int getFractionDigits(int id) {
+		return Tables.fractionDigits[id];
+	}
+
+	/**
+	 * Gets the ISO 4217 numeric code for an id.
+	 *
+	 * @param id the id
+	 * @return the numeric code
+	 */
+	public static int getNumericCode(int id) {
+		return Tables.numericCodes[id];
+	}
+
+	/**
+	 * Gets the currency of the <em>default locale</em>. It is only looked up
+	 * again when the default locale changes or {@link #refreshDefault()} is called.
+	 *
+	 * @return the currency of the default locale
+	 * @throws IllegalArgumentException if the default locale has no country
+	 */
+	public static Currency getDefaultCurrency() {
+		Defaults current = getDefaults(Locale.getDefault());
+		Currency currency = current.currency;
+		if (currency == null) {
+			currency = Currency.getInstance(current.locale);
+			current.currency = currency;
+		}
+		return currency;
+	}
+
+	/**
+	 * Gets the symbol of a currency for a locale. Symbols for the
+	 * <em>default locale</em> are cached.
+	 *
+	 * @param currency the currency
+	 * @param locale the locale
+	 * @return the symbol of the currency for the locale
+	 * @see Currency#getSymbol(Locale)
+	 */
+	public static String getSymbol(Currency currency, Locale locale) {
+		if (locale != Locale.getDefault()) {
+			return currency.getSymbol(locale);
+		}
+		Defaults current = getDefaults(locale);
+		String symbol = current.symbols.get(currency);
+		if (symbol == null) {
+			symbol = currency.getSymbol(locale);
+			current.symbols.put(currency, symbol);
+		}
+		return symbol;
+	}
+
+	/**
+	 * Resolve the currency of the default locale again and clear cached symbols,
+	 * for example after locale data has been changed.
+	 */
+	public static void refreshDefault() {
+		defaults = null;
+	}
+
+	/**
+	 * Gets the resolved default-locale currency, resolving it if the
+	 * default locale has changed.
+	 *
+	 * @param locale the current default locale
+	 * @return the resolved default-locale currency
+	 */
+	private static Defaults getDefaults(Locale locale) {
+		Defaults current = defaults;
+		if (current == null || current.locale != locale) {
+			current = new Defaults(locale);
+			defaults = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Gets the slot of a 3-letter upper case code.
+	 *
+	 * @param code the code
+	 * @return the slot, or -1 if the code is not 3 letters from A to Z
+	 */
+	private static int codeSlot(String code) {
+		if (code.length() != 3) {
+			return -1;
+		}
+		int slot = 0;
+		for (int i = 0; i < 3; i++) {
+			int letter = code.charAt(i) - 'A';
+			if (letter < 0 || letter >= 26) {
+				return -1;
+			}
+			slot = slot * 26 + letter;
+		}
+		return slot;
+	}
+}
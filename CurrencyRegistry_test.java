@@ -0,0 +1,122 @@
+/*
+ *  CurrencyRegistry_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.util.Currency;
+import java.util.Locale;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the CurrencyRegistry class.
+ */
+public class CurrencyRegistry_test {
+	/**
+	 * Test the precomputed currency tables
+	 */
+	@Test
+	public void test_0010_tables() {
+		assertEquals(Currency.getAvailableCurrencies().size(), CurrencyRegistry.size());
+		for (Currency currency : Currency.getAvailableCurrencies()) {
+			int id = CurrencyRegistry.getId(currency);
+			assertEquals(id, CurrencyRegistry.getId(currency.getCurrencyCode()));
+			assertSame(currency, CurrencyRegistry.getCurrency(id));
+			assertEquals(currency.getCurrencyCode(), CurrencyRegistry.getCode(id));
+			assertEquals(currency.getDefaultFractionDigits(), CurrencyRegistry.getFractionDigits(id));
+			assertEquals(currency.getNumericCode(), CurrencyRegistry.getNumericCode(id));
+		}
+
+		// ids are in code order
+		assertTrue(CurrencyRegistry.getId("EUR") < CurrencyRegistry.getId("USD"));
+		assertEquals(840, CurrencyRegistry.getNumericCode(CurrencyRegistry.getId("USD")));
+		assertEquals(0, CurrencyRegistry.getFractionDigits(CurrencyRegistry.getId("JPY")));
+		assertEquals(3, CurrencyRegistry.getFractionDigits(CurrencyRegistry.getId("BHD")));
+
+		// unknown codes
+		assertEquals(-1, CurrencyRegistry.getId("QQQ"));
+		assertEquals(-1, CurrencyRegistry.getId("usd"));
+		assertEquals(-1, CurrencyRegistry.getId("US"));
+	}
+
+	/**
+	 * Test resolving the currency and symbols of the default locale
+	 */
+	@Test
+	public void test_0020_defaults() {
+		Locale saved = Locale.getDefault();
+		try {
+			Locale.setDefault(Locale.US);
+			assertEquals(Currency.getInstance(Locale.US), CurrencyRegistry.getDefaultCurrency());
+			assertEquals(Currency.getInstance(Locale.US), new Money(10.1051).getCurrency());
+			assertEquals("$10.11", new Money(10.1051).toString());
+
+			// the resolved currency follows changes to the default locale
+			Locale.setDefault(Locale.JAPAN);
+			assertEquals(Currency.getInstance(Locale.JAPAN), CurrencyRegistry.getDefaultCurrency());
+			assertEquals(new Money(10, Currency.getInstance(Locale.JAPAN)), new Money(10.1051));
+
+			// cached symbols are the same as the currency symbols
+			final Currency usd = Currency.getInstance(Locale.US);
+			assertEquals(usd.getSymbol(Locale.JAPAN), CurrencyRegistry.getSymbol(usd, Locale.JAPAN));
+			assertEquals(usd.getSymbol(Locale.UK), CurrencyRegistry.getSymbol(usd, Locale.UK));
+
+			CurrencyRegistry.refreshDefault();
+			assertEquals(Currency.getInstance(Locale.JAPAN), CurrencyRegistry.getDefaultCurrency());
+			assertEquals(usd.getSymbol(Locale.JAPAN), CurrencyRegistry.getSymbol(usd, Locale.JAPAN));
+
+			// locales without a country have no currency
+			Locale.setDefault(Locale.ENGLISH);
+			try {
+				new Money(1.0);
+				// the following 2 lines will never be excuted if there is exception
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (IllegalArgumentException ex) {
+				System.out.printf("IllegalArgumentException caught: %s\n", ex.getMessage());
+			}
+		} finally {
+			Locale.setDefault(saved);
+		}
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(CurrencyRegistry_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}
@@ -72,12 +72,12 @@ final public class Money implements Comparable<Money> {
 
 	/**
 	 * Initialize money with an amount and the currency of the default locale.
+	 * The currency is resolved once by {@link CurrencyRegistry#getDefaultCurrency()}.
 	 * 
 	 * @param amount the amount
-	 * @param currency the currency
 	 */
 	public Money(BigDecimal amount) {
-		this(amount, Currency.getInstance(Locale.getDefault()));
+		this(amount, CurrencyRegistry.getDefaultCurrency());
 	}
 	
 	/**
@@ -108,6 +108,30 @@ final public class Money implements Comparable<Money> {
 		return amount;
 	}
 	
+	/**
+	 * Get the amount of money in minor units of the currency,
+	 * for example cents for US Dollars.
+	 *
+	 * @return the amount of money in minor units
+	 * @throws ArithmeticException if the amount does not fit in a long
+	 */
+	public long getMinorUnits() {
+		// the amount is always scaled to the fraction digits of the currency
+		return amount.unscaledValue().longValueExact();
+	}
+
+	/**
+	 * Create money from an amount in minor units of the currency,
+	 * for example cents for US Dollars.
+	 *
+	 * @param minorUnits the amount in minor units
+	 * @param currency the currency
+	 * @return the money
+	 */
+	public static Money ofMinorUnits(long minorUnits, Currency currency) {
+		return new Money(BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits()), currency);
+	}
+
 	/**
 	 * Determines whether other money is in the same currency.
 	 * 
@@ -326,7 +350,7 @@ final public class Money implements Comparable<Money> {
 	 * @return the locale specific money string
 	 */
 	public String toString(Locale locale) {
-		String currencySymbol = currency.getSymbol(locale);
+		String currencySymbol = CurrencyRegistry.getSymbol(currency, locale);
 		if (currencySymbol.length() > 1) {
 			// default format
 			return currencySymbol +  " " + amount.toPlainString();			
@@ -0,0 +1,381 @@
+/*
+ * MoneyArena.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Currency;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+/**
+ * <p>A request-scoped arena for intermediate {@link Money} values. Amounts live
+ * off the heap as slots of minor units and a {@link CurrencyRegistry} currency id,
+ * and are addressed by <tt>int</tt> handles. Arithmetic on handles writes a new
+ * slot instead of creating a <tt>Money</tt> object, so a calculation with many
+ * intermediate values only creates objects for the results that are
+ * {@link #promote(int) promoted} to <tt>Money</tt>.</p>
+ *
+ * <p>Results are the same as for the corresponding <tt>Money</tt> operations,
+ * including banker's rounding to the fraction digits of the currency, as long as
+ * they fit in a long of minor units; otherwise an {@link ArithmeticException} is
+ * thrown.</p>
+ *
+ * <p>{@link #reset()} discards every slot at once so the arena can be reused for
+ * the next request without allocating. {@link #close()} drops the off-heap
+ * memory, which is returned when its buffer is garbage collected; pooling arenas
+ * and resetting them avoids that cost altogether. Arenas are not thread-safe;
+ * use one for each request or thread.</p>
+ */
+final public class MoneyArena implements AutoCloseable {
+	/** Bytes for each slot: minor units, currency id, padding */
+	private static final int SLOT_SIZE = 16;
+
+	/** Offset of the currency id in a slot */
+	private static final int CURRENCY_OFFSET = 8;
+
+	/** Powers of ten that fit in a long */
+	private static final long[] POWERS_OF_TEN = new long[19];
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	/** The slots, or null once closed */
+	private ByteBuffer slots;
+
+	/** Number of slots in use */
+	private int size;
+
+	/**
+	 * Initialize an arena.
+	 *
+	 * @param capacity the initial number of slots
+	 */
+	public MoneyArena(int capacity) {
+		this.slots = ByteBuffer.allocateDirect(Math.max(capacity, 1) * SLOT_SIZE).order(ByteOrder.nativeOrder());
+		this.size = 0;
+	}
+
+	/**
+	 * Gets the number of slots in use.
+	 *
+	 * @return the number of slots
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Copy money into a new slot.
+	 *
+	 * @param money the money
+	 * @return the handle of the slot
+	 * @throws ArithmeticException if the amount does not fit in a long of minor units
+	 */
+	public int allocate(Money money) {
+		return allocate(money.getMinorUnits(), CurrencyRegistry.getId(money.getCurrency()));
+	}
+
+	/**
+	 * Put an amount in minor units of a currency into a new slot.
+	 *
+	 * @param minorUnits the amount in minor units
+	 * @param currency the currency
+	 * @return the handle of the slot
+	 */
+	public int allocateMinorUnits(long minorUnits, Currency currency) {
+		return allocate(minorUnits, CurrencyRegistry.getId(currency));
+	}
+
+	/**
+	 * Create money from a slot.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the money
+	 */
+	public Money promote(int handle) {
+		return Money.ofMinorUnits(getMinorUnits(handle), getCurrency(handle));
+	}
+
+	/**
+	 * Gets the amount of a slot in minor units of its currency.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the amount in minor units
+	 */
+	public long getMinorUnits(int handle) {
+		return slots().getLong(offset(handle));
+	}
+
+	/**
+	 * Gets the currency of a slot.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the currency
+	 */
+	public Currency getCurrency(int handle) {
+		return CurrencyRegistry.getCurrency(currencyId(handle));
+	}
+
+	/**
+	 * Add two slots.
+	 *
+	 * @param handle the handle of the first slot
+	 * @param other the handle of the second slot
+	 * @return the handle of the sum
+	 * @throws MismatchedCurrencyException if the slots are not in the same currency
+	 */
+	public int add(int handle, int other) throws MismatchedCurrencyException {
+		int currencyId = sameCurrency(handle, other, "Can't add different currencies");
+		return allocate(Math.addExact(getMinorUnits(handle), getMinorUnits(other)), currencyId);
+	}
+
+	/**
+	 * Subtract a slot from a slot.
+	 *
+	 * @param handle the handle of the first slot
+	 * @param other the handle of the slot to subtract
+	 * @return the handle of the difference
+	 * @throws MismatchedCurrencyException if the slots are not in the same currency
+	 */
+	public int subtract(int handle, int other) throws MismatchedCurrencyException {
+		int currencyId = sameCurrency(handle, other, "Can't subtract different currencies");
+		return allocate(Math.subtractExact(getMinorUnits(handle), getMinorUnits(other)), currencyId);
+	}
+
+	/**
+	 * Multiply two slots, as {@link Money#multiply(Money)} does.
+	 *
+	 * @param handle the handle of the first slot
+	 * @param other the handle of the second slot
+	 * @return the handle of the product
+	 * @throws MismatchedCurrencyException if the slots are not in the same currency
+	 */
+	public int multiply(int handle, int other) throws MismatchedCurrencyException {
+		int currencyId = sameCurrency(handle, other, "Can't multiply different currencies");
+		long product = multiplyScaled(getMinorUnits(handle), getMinorUnits(other),
+				CurrencyRegistry.getFractionDigits(currencyId));
+		return allocate(product, currencyId);
+	}
+
+	/**
+	 * Multiply a slot by a factor.
+	 *
+	 * @param handle the handle of the slot
+	 * @param factor amount to multiply by
+	 * @return the handle of the product
+	 */
+	public int multiply(int handle, long factor) {
+		return allocate(Math.multiplyExact(getMinorUnits(handle), factor), currencyId(handle));
+	}
+
+	/**
+	 * Multiply a slot by an exact decimal factor of unscaledFactor &times; 10<sup>-factorScale</sup>,
+	 * for example 1005 and 3 for 1.005, rounding the product to the fraction digits of the currency.
+	 *
+	 * @param handle the handle of the slot
+	 * @param unscaledFactor the unscaled factor
+	 * @param factorScale the scale of the factor
+	 * @return the handle of the product
+	 */
+	public int multiply(int handle, long unscaledFactor, int factorScale) {
+		return allocate(multiplyScaled(getMinorUnits(handle), unscaledFactor, factorScale), currencyId(handle));
+	}
+
+	/**
+	 * Multiply a slot by a factor, as {@link Money#multiply(double)} does. The factor
+	 * is converted to a decimal like Money does, which creates objects; use
+	 * {@link #multiply(int, long, int)} in allocation-sensitive code.
+	 *
+	 * @param handle the handle of the slot
+	 * @param factor amount to multiply by
+	 * @return the handle of the product
+	 * @throws NumberFormatException for +/- infinity and NaN factor
+	 */
+	public int multiply(int handle, double factor) {
+		BigDecimal exact = BigDecimal.valueOf(factor);
+		long product;
+		if (exact.precision() <= 18) {
+			product = multiplyScaled(getMinorUnits(handle), exact.unscaledValue().longValue(), exact.scale());
+		} else {
+			product = roundToLong(BigDecimal.valueOf(getMinorUnits(handle)).multiply(exact));
+		}
+		return allocate(product, currencyId(handle));
+	}
+
+	/**
+	 * Negative value of a slot.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the handle of the negative value
+	 */
+	public int negate(int handle) {
+		return allocate(Math.negateExact(getMinorUnits(handle)), currencyId(handle));
+	}
+
+	/**
+	 * Absolute value of a slot. As with {@link Money#abs()}, a non-negative
+	 * slot is returned unchanged.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the handle of the absolute value
+	 */
+	public int abs(int handle) {
+		long minorUnits = getMinorUnits(handle);
+		return (minorUnits < 0) ? allocate(Math.negateExact(minorUnits), currencyId(handle)) : handle;
+	}
+
+	/**
+	 * Discard every slot. Handles from before the reset must not be used again.
+	 */
+	public void reset() {
+		slots();
+		size = 0;
+	}
+
+	/**
+	 * Drop the arena's reference to its memory. The memory is reclaimed when
+	 * the buffer is garbage collected. The arena cannot be used afterwards.
+	 */
+	@Override
+	public void close() {
+		slots = null;
+		size = 0;
+	}
+
+	/**
+	 * Put an amount into a new slot, growing the arena if needed.
+	 *
+	 * @param minorUnits the amount in minor units
+	 * @param currencyId the registry id of the currency
+	 * @return the handle of the slot
+	 */
+	private int allocate(long minorUnits, int currencyId) {
+		ByteBuffer buffer = slots();
+		int offset = size * SLOT_SIZE;
+		if (offset == buffer.capacity()) {
+			ByteBuffer grown = ByteBuffer.allocateDirect(buffer.capacity() * 2).order(ByteOrder.nativeOrder());
+			buffer.clear();
+			grown.put(buffer);
+			slots = buffer = grown;
+		}
+		buffer.putLong(offset, minorUnits);
+		buffer.putInt(offset + CURRENCY_OFFSET, currencyId);
+		return size++;
+	}
+
+	/**
+	 * Gets the slots of an open arena.
+	 *
+	 * @return the slots
+	 * @throws IllegalStateException if the arena is closed
+	 */
+	private ByteBuffer slots() {
+		if (slots == null) {
+			throw new IllegalStateException("Arena is closed");
+		}
+		return slots;
+	}
+
+	/**
+	 * Gets the offset of a slot.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the offset
+	 * @throws IndexOutOfBoundsException if there is no such slot
+	 */
+	private int offset(int handle) {
+		if (handle < 0 || handle >= size) {
+			throw new IndexOutOfBoundsException("Handle " + handle + " of " + size);
+		}
+		return handle * SLOT_SIZE;
+	}
+
+	/**
+	 * Gets the registry currency id of a slot.
+	 *
+	 * @param handle the handle of the slot
+	 * @return the currency id
+	 */
+	private int currencyId(int handle) {
+		return slots().getInt(offset(handle) + CURRENCY_OFFSET);
+	}
+
+	/**
+	 * Gets the currency id of two slots that must be in the same currency.
+	 *
+	 * @param handle the handle of the first slot
+	 * @param other the handle of the second slot
+	 * @param message the exception message
+	 * @return the currency id
+	 * @throws MismatchedCurrencyException if the slots are not in the same currency
+	 */
+	private int sameCurrency(int handle, int other, String message) throws MismatchedCurrencyException {
+		int currencyId = currencyId(handle);
+		if (currencyId != currencyId(other)) {
+			throw new MismatchedCurrencyException(message);
+		}
+		return currencyId;
+	}
+
+	/**
+	 * Multiply minor units by a scaled factor and round back to minor units
+	 * using banker's rounding.
+	 *
+	 * @param minorUnits the amount in minor units
+	 * @param unscaled the unscaled factor
+	 * @param scale the scale of the factor
+	 * @return the product in minor units
+	 * @throws ArithmeticException if the product does not fit in a long
+	 */
+	private static long multiplyScaled(long minorUnits, long unscaled, int scale) {
+		long product;
+		try {
+			product = Math.multiplyExact(minorUnits, unscaled);
+			if (scale < 0) {
+				if (-scale >= POWERS_OF_TEN.length) {
+					throw new ArithmeticException("long overflow");
+				}
+				return Math.multiplyExact(product, POWERS_OF_TEN[-scale]);
+			}
+		} catch (ArithmeticException ex) {
+			return roundToLong(BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(unscaled, scale)));
+		}
+		if (scale == 0) {
+			return product;
+		}
+		if (scale >= POWERS_OF_TEN.length) {
+			return roundToLong(BigDecimal.valueOf(product, scale));
+		}
+
+		long divisor = POWERS_OF_TEN[scale];
+		long quotient = product / divisor;
+		long remainder = Math.abs(product % divisor);
+		// 2 * remainder cannot overflow since divisor is at most 10^18
+		long twice = remainder * 2;
+		if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+			quotient += (product < 0) ? -1 : 1;
+		}
+		return quotient;
+	}
+
+	/**
+	 * Round an amount in minor units to a long using banker's rounding.
+	 *
+	 * @param minorUnits the exact amount in minor units
+	 * @return the rounded amount
+	 * @throws ArithmeticException if the amount does not fit in a long
+	 */
+	private static long roundToLong(BigDecimal minorUnits) {
+		return minorUnits.setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ *  MoneyArena_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the MoneyArena class.
+ */
+public class MoneyArena_test {
+	/** Currencies with 0, 2 and 3 fraction digits */
+	private static final Currency[] currencies = {
+		Currency.getInstance("JPY"), Currency.getInstance("USD"), Currency.getInstance("BHD")
+	};
+
+	/**
+	 * Test arena operations give the same results as Money operations
+	 */
+	@Test
+	public void test_0010_operations() {
+		Random random = new Random(5004);
+		try (MoneyArena arena = new MoneyArena(4)) {
+			for (int i = 0; i < 20000; i++) {
+				arena.reset();
+				Currency currency = currencies[random.nextInt(currencies.length)];
+				Money a = Money.ofMinorUnits(random.nextInt() >> random.nextInt(32), currency);
+				Money b = Money.ofMinorUnits(random.nextInt() >> random.nextInt(32), currency);
+				long factor = random.nextInt(2001) - 1000;
+				double doubleFactor = (random.nextDouble() - 0.5) * 100.0;
+
+				int ha = arena.allocate(a);
+				int hb = arena.allocate(b);
+				assertEquals(a, arena.promote(ha));
+				assertEquals(a.add(b), arena.promote(arena.add(ha, hb)));
+				assertEquals(a.subtract(b), arena.promote(arena.subtract(ha, hb)));
+				assertEquals(a.multiply(b), arena.promote(arena.multiply(ha, hb)));
+				assertEquals(a.multiply(factor), arena.promote(arena.multiply(ha, factor)));
+				assertEquals(a.multiply(doubleFactor), arena.promote(arena.multiply(ha, doubleFactor)));
+				assertEquals(a.multiply(1.005), arena.promote(arena.multiply(ha, 1005, 3)));
+				assertEquals(a.negate(), arena.promote(arena.negate(ha)));
+				assertEquals(a.abs(), arena.promote(arena.abs(ha)));
+			}
+		}
+	}
+
+	/**
+	 * Test products that overflow a long before rounding but fit after, and
+	 * factors that are converted to decimals with a negative scale
+	 */
+	@Test
+	public void test_0015_largeOperands() {
+		Random random = new Random(5004);
+		try (MoneyArena arena = new MoneyArena(4)) {
+			for (int i = 0; i < 20000; i++) {
+				arena.reset();
+				Currency currency = currencies[random.nextInt(currencies.length)];
+
+				// near Long.MAX_VALUE / 1000, so multiplying by 1005 overflows
+				long large = Long.MAX_VALUE / 1000 - random.nextInt(Integer.MAX_VALUE);
+				Money a = Money.ofMinorUnits(random.nextBoolean() ? large : -large, currency);
+				int ha = arena.allocate(a);
+				assertEquals(a.multiply(1.005), arena.promote(arena.multiply(ha, 1005, 3)));
+				assertEquals(a.multiply(1.005), arena.promote(arena.multiply(ha, 1.005)));
+				assertEquals(a.multiply(0.999), arena.promote(arena.multiply(ha, 999, 3)));
+
+				// factors of 10^7 and more are written as 3.0E7, with a negative scale
+				Money b = Money.ofMinorUnits(random.nextInt() >> (8 + random.nextInt(24)), currency);
+				double factor = (random.nextInt(19) - 9) * Math.pow(10, 7 + random.nextInt(3));
+				assertTrue(factor == 0.0 || BigDecimal.valueOf(factor).scale() < 0);
+				int hb = arena.allocate(b);
+				assertEquals(b.multiply(factor), arena.promote(arena.multiply(hb, factor)));
+			}
+		}
+	}
+
+	/**
+	 * Test slots, handles, rounding and the arena lifecycle
+	 */
+	@Test
+	public void test_0020_slots() {
+		final Currency usd = Currency.getInstance("USD");
+		final Currency jpy = Currency.getInstance("JPY");
+
+		MoneyArena arena = new MoneyArena(1);
+		int price = arena.allocate(new Money(10.11, usd));
+		int quantity = arena.allocateMinorUnits(300, usd);
+		assertEquals(1011, arena.getMinorUnits(price));
+		assertEquals(usd, arena.getCurrency(quantity));
+
+		// intermediate values stay in the arena; only the result is promoted
+		int total = arena.multiply(price, quantity);
+		int discounted = arena.multiply(total, 95, 2);
+		int taxed = arena.add(discounted, arena.multiply(discounted, 8, 2));
+		assertEquals(new Money(10.11, usd).multiply(new Money(3.00, usd)).multiply(0.95)
+				.multiply(1.08), arena.promote(taxed));
+		assertEquals(6, arena.size());
+
+		// banker's rounding of half a minor unit
+		int half = arena.allocate(new Money(0.05, usd));
+		assertEquals(new Money(0.02, usd), arena.promote(arena.multiply(half, 5, 1)));
+		assertEquals(new Money(0.08, usd), arena.promote(arena.multiply(half, 15, 1)));
+
+		// abs of a non-negative slot is the same slot
+		assertEquals(price, arena.abs(price));
+
+		try {
+			arena.add(price, arena.allocate(new Money(1, jpy)));
+			// the following 2 lines will never be excuted if there is exception
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (MismatchedCurrencyException ex) {
+			System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+		}
+
+		try {
+			arena.multiply(arena.allocateMinorUnits(Long.MAX_VALUE, usd), 2L);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (ArithmeticException ex) {
+			System.out.printf("ArithmeticException caught: %s\n", ex.getMessage());
+		}
+
+		try {
+			arena.allocate(new Money(new BigDecimal("1e30"), usd));
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (ArithmeticException ex) {
+			System.out.printf("ArithmeticException caught: %s\n", ex.getMessage());
+		}
+
+		// reset discards every slot
+		arena.reset();
+		assertEquals(0, arena.size());
+		try {
+			arena.promote(price);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IndexOutOfBoundsException ex) {
+			System.out.printf("IndexOutOfBoundsException caught: %s\n", ex.getMessage());
+		}
+
+		arena.close();
+		try {
+			arena.allocate(new Money(1.00, usd));
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IllegalStateException ex) {
+			System.out.printf("IllegalStateException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(MoneyArena_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}
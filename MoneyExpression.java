@@ -0,0 +1,246 @@
+/*
+ * MoneyExpression.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+/**
+ * <p>A lazy chain of {@link Money} operations that is evaluated in one pass with a
+ * single final rounding. Each operation on <tt>Money</tt> rounds its result to the
+ * fraction digits of the currency, so a long chain like interest &times; days &divide; 365
+ * &times; exchange rate accumulates rounding drift. A <tt>MoneyExpression</tt> only
+ * records the steps; {@link #evaluate()} computes the exact rational result and then
+ * rounds it once using "banker's rounding."</p>
+ *
+ * <p>The value is kept as an exact numerator and denominator, so divisions never
+ * round before the end. Currency checks are made when a step is recorded, so a
+ * mismatched currency fails at the step that caused it.</p>
+ *
+ * <p><tt>MoneyExpression</tt> objects are not thread-safe while being built, but
+ * evaluating does not change the expression and may be repeated.</p>
+ */
+final public class MoneyExpression {
+	/** The kind of a recorded step */
+	private enum Op { ADD, SUBTRACT, MULTIPLY, DIVIDE }
+
+	/** A recorded step and its exact operand */
+	private static final class Step {
+		final Op op;
+		final BigDecimal operand;
+
+		Step(Op op, BigDecimal operand) {
+			this.op = op;
+			this.operand = operand;
+		}
+	}
+
+	/** Rounding mode for the final result; the same as for Money */
+	private static final RoundingMode rounding = RoundingMode.HALF_EVEN;
+
+	/** The unrounded starting amount */
+	private final BigDecimal start;
+
+	/** The recorded steps in order */
+	private final List<Step> steps = new ArrayList<Step>();
+
+	/** The currency of the expression after the last recorded step */
+	private Currency currency;
+
+	/**
+	 * Start an expression with an exact amount and currency. The amount is
+	 * not rounded to the currency until the expression is evaluated.
+	 *
+	 * @param amount the starting amount
+	 * @param currency the currency
+	 */
+	public MoneyExpression(BigDecimal amount, Currency currency) {
+		this.start = amount;
+		this.currency = currency;
+	}
+
+	/**
+	 * Start an expression with money.
+	 *
+	 * @param money the starting money
+	 */
+	public MoneyExpression(Money money) {
+		this(money.getAmount(), money.getCurrency());
+	}
+
+	/**
+	 * Gets the currency the expression will evaluate to.
+	 *
+	 * @return the currency after the last recorded step
+	 */
+	public Currency getCurrency() {
+		return currency;
+	}
+
+	/**
+	 * Add money to the expression.
+	 *
+	 * @param money other money
+	 * @return this expression
+	 * @throws MismatchedCurrencyException if the money is not in the expression currency
+	 */
+	public MoneyExpression add(Money... money) throws MismatchedCurrencyException {
+		// check every currency first so a failed call records no steps
+		for (Money aMoney : money) {
+			if (! currency.equals(aMoney.getCurrency())) {
+				throw new MismatchedCurrencyException("Can't add different currencies");
+			}
+		}
+		for (Money aMoney : money) {
+			steps.add(new Step(Op.ADD, aMoney.getAmount()));
+		}
+		return this;
+	}
+
+	/**
+	 * Subtract money from the expression.
+	 *
+	 * @param money other money
+	 * @return this expression
+	 * @throws MismatchedCurrencyException if the money is not in the expression currency
+	 */
+	public MoneyExpression subtract(Money money) throws MismatchedCurrencyException {
+		if (! currency.equals(money.getCurrency())) {
+			throw new MismatchedCurrencyException("Can't subtract different currencies");
+		}
+		steps.add(new Step(Op.SUBTRACT, money.getAmount()));
+		return this;
+	}
+
+	/**
+	 * Multiply the expression by an exact factor.
+	 *
+	 * @param factor amount to multiply by
+	 * @return this expression
+	 */
+	public MoneyExpression multiply(BigDecimal factor) {
+		steps.add(new Step(Op.MULTIPLY, factor));
+		return this;
+	}
+
+	/**
+	 * Multiply the expression by a factor.
+	 *
+	 * @param factor amount to multiply by
+	 * @return this expression
+	 */
+	public MoneyExpression multiply(long factor) {
+		return multiply(BigDecimal.valueOf(factor));
+	}
+
+	/**
+	 * Multiply the expression by a factor.
+	 *
+	 * @param factor amount to multiply by
+	 * @return this expression
+	 * @throws NumberFormatException for +/- infinity and NaN factor
+	 */
+	public MoneyExpression multiply(double factor) {
+		return multiply(BigDecimal.valueOf(factor));
+	}
+
+	/**
+	 * Divide the expression by an exact factor. The division is exact;
+	 * it is only rounded when the expression is evaluated.
+	 *
+	 * @param factor amount to divide by
+	 * @return this expression
+	 * @throws ArithmeticException for divide by 0
+	 */
+	public MoneyExpression divide(BigDecimal factor) {
+		if (factor.signum() == 0) {
+			throw new ArithmeticException("Division by zero");
+		}
+		steps.add(new Step(Op.DIVIDE, factor));
+		return this;
+	}
+
+	/**
+	 * Divide the expression by a factor.
+	 *
+	 * @param factor amount to divide by
+	 * @return this expression
+	 * @throws ArithmeticException for divide by 0
+	 */
+	public MoneyExpression divide(long factor) {
+		return divide(BigDecimal.valueOf(factor));
+	}
+
+	/**
+	 * Divide the expression by a factor.
+	 *
+	 * @param factor amount to divide by
+	 * @return this expression
+	 * @throws ArithmeticException for divide by 0
+	 * @throws NumberFormatException for +/- infinity and NaN factor
+	 */
+	public MoneyExpression divide(double factor) {
+		return divide(BigDecimal.valueOf(factor));
+	}
+
+	/**
+	 * Convert the expression to the specified Currency by multiplying
+	 * it by the given exchange rate. As with {@link Money#asCurrency(Currency, double)},
+	 * converting to the same currency leaves the expression unchanged.
+	 *
+	 * @param aCurrency the new currency
+	 * @param exchangeRate the exchange rate
+	 * @return this expression
+	 */
+	public MoneyExpression asCurrency(Currency aCurrency, double exchangeRate) {
+		if (currency.equals(aCurrency)) {
+			return this;
+		}
+		steps.add(new Step(Op.MULTIPLY, BigDecimal.valueOf(exchangeRate)));
+		currency = aCurrency;
+		return this;
+	}
+
+	/**
+	 * Evaluate the expression exactly and round the result once to the
+	 * fraction digits of the currency.
+	 *
+	 * @return the money for the expression
+	 */
+	public Money evaluate() {
+		// keep the value as numerator / denominator so that nothing rounds until the end
+		BigDecimal numerator = start;
+		BigDecimal denominator = BigDecimal.ONE;
+		for (Step step : steps) {
+			switch (step.op) {
+			case ADD:
+				numerator = numerator.add(step.operand.multiply(denominator));
+				break;
+			case SUBTRACT:
+				numerator = numerator.subtract(step.operand.multiply(denominator));
+				break;
+			case MULTIPLY:
+				numerator = numerator.multiply(step.operand);
+				break;
+			case DIVIDE:
+				denominator = denominator.multiply(step.operand);
+				break;
+			}
+		}
+
+		int scale = currency.getDefaultFractionDigits();
+		BigDecimal amount = (denominator.compareTo(BigDecimal.ONE) == 0)
+				? numerator.setScale(scale, rounding)
+				: numerator.divide(denominator, scale, rounding);
+		return new Money(amount, currency);
+	}
+}
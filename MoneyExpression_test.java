@@ -0,0 +1,168 @@
+/*
+ *  MoneyExpression_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Locale;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the MoneyExpression class.
+ */
+public class MoneyExpression_test {
+	/**
+	 * Test that a chain rounds once at the end instead of after every step
+	 */
+	@Test
+	public void test_0010_evaluate() {
+		final Currency usd = Currency.getInstance(Locale.US);
+		Money price = new Money(0.05, usd);
+
+		// 0.05 * 0.5 rounds to 0.02 before it is tripled when each step rounds
+		Money stepwise = price.multiply(0.5).multiply(3L);
+		assertEquals(0.06, stepwise.getAmount().doubleValue(), 0.0);
+		Money chained = new MoneyExpression(price).multiply(0.5).multiply(3L).evaluate();
+		assertEquals(new Money(0.08, usd), chained);
+
+		// 1.00 / 3 * 3 is exact as a chain
+		Money one = new Money(1.00, usd);
+		Money third = new MoneyExpression(one).divide(3L).multiply(3L).evaluate();
+		assertEquals(one, third);
+
+		// divisions that do not terminate are only rounded at the end
+		Money rounded = new MoneyExpression(one).divide(3L).evaluate();
+		assertEquals(0.33, rounded.getAmount().doubleValue(), 0.0);
+
+		// final rounding uses banker's rounding
+		assertEquals(new Money(0.12, usd),
+				new MoneyExpression(new BigDecimal("0.125"), usd).evaluate());
+		assertEquals(new Money(0.14, usd),
+				new MoneyExpression(new BigDecimal("0.135"), usd).evaluate());
+
+		// evaluating twice gives the same result
+		MoneyExpression expression = new MoneyExpression(one).add(one, one).subtract(one);
+		assertEquals(new Money(2.00, usd), expression.evaluate());
+		assertEquals(expression.evaluate(), expression.evaluate());
+	}
+
+	/**
+	 * Test converting currency in the middle of a chain
+	 */
+	@Test
+	public void test_0020_asCurrency() {
+		final Currency usd = Currency.getInstance(Locale.US);
+		final Currency jpy = Currency.getInstance(Locale.JAPAN);
+
+		// 10.1051 USD is not rounded to 10.11 before conversion
+		MoneyExpression expression = new MoneyExpression(new BigDecimal("10.1051"), usd)
+				.asCurrency(jpy, 110.60);
+		assertEquals(jpy, expression.getCurrency());
+		assertEquals(new Money(1118, jpy), expression.evaluate());
+
+		// converting to the same currency does nothing
+		expression = new MoneyExpression(new Money(10.11, usd)).asCurrency(usd, 110.60);
+		assertEquals(new Money(10.11, usd), expression.evaluate());
+
+		// after conversion only the new currency can be added
+		expression = new MoneyExpression(new Money(10.00, usd)).asCurrency(jpy, 110.60);
+		expression.add(new Money(6, jpy));
+		assertEquals(new Money(1112, jpy), expression.evaluate());
+		try {
+			expression.add(new Money(1.00, usd));
+			// the following 2 lines will never be excuted if there is exception
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (MismatchedCurrencyException ex) {
+			System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Test handling of invalid operands
+	 */
+	@Test
+	public void test_0030_invalid() {
+		final Currency usd = Currency.getInstance(Locale.US);
+		MoneyExpression expression = new MoneyExpression(new Money(1.00, usd));
+
+		try {
+			expression.divide(0L);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (ArithmeticException ex) {
+			System.out.printf("ArithmeticException caught: %s\n", ex.getMessage());
+		}
+
+		try {
+			expression.multiply(Double.NaN);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (NumberFormatException ex) {
+			System.out.printf("NumberFormatException caught: %s\n", ex.getMessage());
+		}
+
+		try {
+			expression.subtract(new Money(1, Currency.getInstance(Locale.JAPAN)));
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (MismatchedCurrencyException ex) {
+			System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+		}
+
+		try {
+			expression.add(new Money(5.00, usd), new Money(1, Currency.getInstance(Locale.JAPAN)));
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (MismatchedCurrencyException ex) {
+			System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+		}
+
+		// failed steps are not recorded
+		assertEquals(new Money(1.00, usd), expression.evaluate());
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(MoneyExpression_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}
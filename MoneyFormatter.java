@@ -0,0 +1,217 @@
+/*
+ * MoneyFormatter.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Formats {@link Money} for a {@link Locale} the way
+ * {@link NumberFormat#getCurrencyInstance(Locale)} does, with the locale's
+ * grouping separator, decimal mark, digits and negative pattern. Amounts are
+ * shown with the fraction digits of their currency, as with a <tt>NumberFormat</tt>
+ * whose fraction digits are set to those of the currency.</p>
+ *
+ * <p>Unlike <tt>NumberFormat</tt>, a <tt>MoneyFormatter</tt> is thread-safe. The
+ * locale's currency pattern is compiled once for each currency and cached, and
+ * formatting appends directly to a caller's buffer, so a single instance can be
+ * shared to format large numbers of amounts.</p>
+ */
+final public class MoneyFormatter {
+	/** Formatters that have been created, by locale */
+	private static final ConcurrentMap<Locale, MoneyFormatter> formatters =
+			new ConcurrentHashMap<Locale, MoneyFormatter>();
+
+	/** Per-thread buffer for {@link #format(Money)} */
+	private static final ThreadLocal<StringBuilder> buffers = new ThreadLocal<StringBuilder>() {
+		@Override
+		protected StringBuilder initialValue() {
+			return new StringBuilder(32);
+		}
+	};
+
+	/** Rounding mode used by NumberFormat; only needed for unusually scaled amounts */
+	private static final RoundingMode rounding = RoundingMode.HALF_EVEN;
+
+	/** The locale */
+	private final Locale locale;
+
+	/** Compiled patterns for this locale, by currency */
+	private final ConcurrentMap<Currency, Pattern> patterns = new ConcurrentHashMap<Currency, Pattern>();
+
+	/**
+	 * A locale currency pattern compiled for one currency. Instances are
+	 * immutable once created.
+	 */
+	private static final class Pattern {
+		final String positivePrefix;
+		final String positiveSuffix;
+		final String negativePrefix;
+		final String negativeSuffix;
+		/** Grouping size, or 0 if grouping is not used */
+		final int groupingSize;
+		final char groupingSeparator;
+		final char decimalSeparator;
+		final char zeroDigit;
+		final int minimumIntegerDigits;
+		final int fractionDigits;
+
+		Pattern(Locale locale, Currency currency) {
+			DecimalFormat format = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
+			format.setCurrency(currency);
+			DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+
+			positivePrefix = format.getPositivePrefix();
+			positiveSuffix = format.getPositiveSuffix();
+			negativePrefix = format.getNegativePrefix();
+			negativeSuffix = format.getNegativeSuffix();
+			groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+			// currency formats use the monetary separators
+			groupingSeparator = symbols.getMonetaryGroupingSeparator();
+			decimalSeparator = symbols.getMonetaryDecimalSeparator();
+			zeroDigit = symbols.getZeroDigit();
+			minimumIntegerDigits = format.getMinimumIntegerDigits();
+			// setCurrency keeps the fraction digits of the locale's own currency
+			int digits = currency.getDefaultFractionDigits();
+			fractionDigits = (digits >= 0) ? digits : format.getMaximumFractionDigits();
+		}
+	}
+
+	/**
+	 * Initialize a formatter for a locale.
+	 *
+	 * @param locale the locale
+	 */
+	private MoneyFormatter(Locale locale) {
+		this.locale = locale;
+	}
+
+	/**
+	 * Gets the formatter for the specified locale. Formatters are cached,
+	 * so this returns the same instance for the same locale.
+	 *
+	 * @param locale the locale
+	 * @return the formatter for the locale
+	 */
+	public static MoneyFormatter getInstance(Locale locale) {
+		MoneyFormatter formatter = formatters.get(locale);
+		if (formatter == null) {
+			formatter = new MoneyFormatter(locale);
+			MoneyFormatter existing = formatters.putIfAbsent(locale, formatter);
+			if (existing != null) {
+				formatter = existing;
+			}
+		}
+		return formatter;
+	}
+
+	/**
+	 * Gets the formatter for the <em>default locale</em>.
+	 *
+	 * @return the formatter for the default locale
+	 */
+	public static MoneyFormatter getInstance() {
+		return getInstance(Locale.getDefault());
+	}
+
+	/**
+	 * Gets the locale of this formatter.
+	 *
+	 * @return the locale
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Format money as a string.
+	 *
+	 * @param money the money
+	 * @return the locale specific money string
+	 */
+	public String format(Money money) {
+		StringBuilder buffer = buffers.get();
+		buffer.setLength(0);
+		return format(money, buffer).toString();
+	}
+
+	/**
+	 * Format money by appending it to a buffer.
+	 *
+	 * @param money the money
+	 * @param buffer the buffer to append to
+	 * @return the buffer
+	 */
+	public StringBuilder format(Money money, StringBuilder buffer) {
+		Pattern pattern = getPattern(money.getCurrency());
+
+		BigDecimal amount = money.getAmount();
+		if (amount.scale() != pattern.fractionDigits) {
+			amount = amount.setScale(pattern.fractionDigits, rounding);
+		}
+		boolean negative = amount.signum() < 0;
+		buffer.append(negative ? pattern.negativePrefix : pattern.positivePrefix);
+
+		// digits of the unscaled value; the last fractionDigits of them are the fraction
+		BigInteger unscaled = amount.unscaledValue().abs();
+		String digits = (unscaled.bitLength() < 64) ? Long.toString(unscaled.longValue()) : unscaled.toString();
+		int fractionDigits = pattern.fractionDigits;
+		int integerDigits = Math.max(digits.length() - fractionDigits, 0);
+		int leadingZeros = Math.max(pattern.minimumIntegerDigits - integerDigits, 0);
+		int totalIntegerDigits = integerDigits + leadingZeros;
+
+		int zeroOffset = pattern.zeroDigit - '0';
+		for (int i = 0; i < totalIntegerDigits; i++) {
+			char digit = (i < leadingZeros) ? '0' : digits.charAt(i - leadingZeros);
+			buffer.append((char) (digit + zeroOffset));
+			int remaining = totalIntegerDigits - i - 1;
+			if (pattern.groupingSize > 0 && remaining > 0 && remaining % pattern.groupingSize == 0) {
+				buffer.append(pattern.groupingSeparator);
+			}
+		}
+
+		if (fractionDigits > 0) {
+			buffer.append(pattern.decimalSeparator);
+			// the fraction may need leading zeros if the amount is less than one
+			for (int i = digits.length(); i < fractionDigits; i++) {
+				buffer.append(pattern.zeroDigit);
+			}
+			for (int i = integerDigits; i < digits.length(); i++) {
+				buffer.append((char) (digits.charAt(i) + zeroOffset));
+			}
+		}
+
+		buffer.append(negative ? pattern.negativeSuffix : pattern.positiveSuffix);
+		return buffer;
+	}
+
+	/**
+	 * Gets the compiled pattern for a currency, compiling it on first use.
+	 *
+	 * @param currency the currency
+	 * @return the compiled pattern
+	 */
+	private Pattern getPattern(Currency currency) {
+		Pattern pattern = patterns.get(currency);
+		if (pattern == null) {
+			pattern = new Pattern(locale, currency);
+			Pattern existing = patterns.putIfAbsent(currency, pattern);
+			if (existing != null) {
+				pattern = existing;
+			}
+		}
+		return pattern;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ *  MoneyFormatter_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the MoneyFormatter class.
+ */
+public class MoneyFormatter_test {
+	/** Locales whose output is compared with NumberFormat */
+	private static final Locale[] locales = {
+		Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN,
+		new Locale("de", "CH"), new Locale("nl", "NL"), new Locale("en", "IN"),
+		new Locale("ar", "SA"), new Locale("fa", "IR")
+	};
+
+	/** Currencies with 0, 2 and 3 fraction digits */
+	private static final Currency[] currencies = {
+		Currency.getInstance("USD"), Currency.getInstance("EUR"),
+		Currency.getInstance("JPY"), Currency.getInstance("BHD")
+	};
+
+	/**
+	 * Test formatting with grouping and locale symbols
+	 */
+	@Test
+	public void test_0010_format() {
+		final Currency usd = Currency.getInstance(Locale.US);
+		final Currency eur = Currency.getInstance("EUR");
+		final Currency jpy = Currency.getInstance(Locale.JAPAN);
+
+		MoneyFormatter us = MoneyFormatter.getInstance(Locale.US);
+		assertEquals("$1,234,567.89", us.format(new Money(1234567.89, usd)));
+		assertEquals("-$1,234,567.89", us.format(new Money(-1234567.89, usd)));
+		assertEquals("$0.05", us.format(new Money(0.05, usd)));
+		assertEquals("$0.00", us.format(new Money(0.0, usd)));
+
+		MoneyFormatter germany = MoneyFormatter.getInstance(Locale.GERMANY);
+		assertEquals("1.234.567,89\u00a0€", germany.format(new Money(1234567.89, eur)));
+		assertEquals("-1.234.567,89\u00a0€", germany.format(new Money(-1234567.89, eur)));
+
+		MoneyFormatter japan = MoneyFormatter.getInstance(Locale.JAPAN);
+		assertEquals("￥1,118", japan.format(new Money(1118, jpy)));
+		// amounts use the fraction digits of their currency, not of the locale's currency
+		assertEquals("€10.12", japan.format(new Money(10.1151, eur)));
+
+		// formatters are cached per locale
+		assertSame(us, MoneyFormatter.getInstance(Locale.US));
+		assertEquals(Locale.US, us.getLocale());
+
+		// formatting appends to the buffer
+		StringBuilder buffer = new StringBuilder("total: ");
+		assertSame(buffer, us.format(new Money(10.11, usd), buffer));
+		assertEquals("total: $10.11", buffer.toString());
+	}
+
+	/**
+	 * Test that output matches NumberFormat for the supported locales
+	 */
+	@Test
+	public void test_0020_numberFormat() {
+		Random random = new Random(5004);
+		for (Locale locale : locales) {
+			MoneyFormatter formatter = MoneyFormatter.getInstance(locale);
+			for (Currency currency : currencies) {
+				NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+				format.setCurrency(currency);
+				format.setMinimumFractionDigits(currency.getDefaultFractionDigits());
+				format.setMaximumFractionDigits(currency.getDefaultFractionDigits());
+				for (int i = 0; i < 200; i++) {
+					// amounts from fractions of a unit up to the limit of a long
+					long unscaled = random.nextLong() >> random.nextInt(64);
+					Money money = new Money(BigDecimal.valueOf(unscaled, random.nextInt(5)), currency);
+					assertEquals(locale + " " + currency,
+							format.format(money.getAmount()), formatter.format(money));
+				}
+				// amounts too large for a long
+				Money money = new Money(new BigDecimal("-123456789012345678901234.567"), currency);
+				assertEquals(format.format(money.getAmount()), formatter.format(money));
+			}
+		}
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(MoneyFormatter_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}
@@ -0,0 +1,379 @@
+/*
+ * MoneyHistogram.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Currency;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+/**
+ * <p>A streaming histogram of {@link Money} amounts in one currency, in the style
+ * of an HDR histogram. Amounts are counted by their minor units in log-linear
+ * buckets: every amount below 256 minor units has its own bucket, and larger
+ * amounts share buckets that are less than 1/128 of the amount wide. Memory
+ * therefore depends on the range of amounts, not on how many are recorded.</p>
+ *
+ * <p>Histograms are not thread-safe; each thread or partition records into its
+ * own histogram, and the results are combined with {@link #merge(MoneyHistogram)}.
+ * A histogram can be stored with {@link #toByteArray()}, which only writes the
+ * buckets that have counts.</p>
+ */
+final public class MoneyHistogram {
+	/** Bits of precision of each bucket */
+	private static final int SUB_BUCKET_BITS = 8;
+
+	/** Number of buckets that hold a single value */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/** Number of buckets for each power of two above SUB_BUCKET_COUNT */
+	private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+
+	/** The bucket of the largest amount */
+	private static final int MAX_INDEX = index(Long.MAX_VALUE);
+
+	/** The currency */
+	private final Currency currency;
+
+	/** Counts of non-negative amounts by bucket of the amount */
+	private long[] positive = new long[SUB_BUCKET_COUNT];
+
+	/** Counts of negative amounts by bucket of the magnitude */
+	private long[] negative = new long[SUB_BUCKET_COUNT];
+
+	/** Number of amounts recorded */
+	private long totalCount;
+
+	/** Smallest amount recorded, in minor units */
+	private long min = Long.MAX_VALUE;
+
+	/** Largest amount recorded, in minor units */
+	private long max = Long.MIN_VALUE;
+
+	/**
+	 * Initialize an empty histogram.
+	 *
+	 * @param currency the currency of the amounts
+	 */
+	public MoneyHistogram(Currency currency) {
+		this.currency = currency;
+	}
+
+	/**
+	 * Gets the currency of the amounts.
+	 *
+	 * @return the currency
+	 */
+	public Currency getCurrency() {
+		return currency;
+	}
+
+	/**
+	 * Record money.
+	 *
+	 * @param money the money
+	 * @throws MismatchedCurrencyException if the money is not in the histogram currency
+	 * @throws ArithmeticException if the amount does not fit in a long of minor units
+	 */
+	public void record(Money money) throws MismatchedCurrencyException {
+		if (! currency.equals(money.getCurrency())) {
+			throw new MismatchedCurrencyException("Can't record different currencies");
+		}
+		recordMinorUnits(money.getMinorUnits());
+	}
+
+	/**
+	 * Record an amount in minor units of the histogram currency.
+	 *
+	 * @param minorUnits the amount in minor units
+	 */
+	public void recordMinorUnits(long minorUnits) {
+		if (minorUnits >= 0) {
+			positive = increment(positive, index(minorUnits), 1);
+		} else {
+			// Long.MIN_VALUE has no positive magnitude, so it shares the top bucket
+			long magnitude = (minorUnits == Long.MIN_VALUE) ? Long.MAX_VALUE : -minorUnits;
+			negative = increment(negative, index(magnitude), 1);
+		}
+		totalCount++;
+		min = Math.min(min, minorUnits);
+		max = Math.max(max, minorUnits);
+	}
+
+	/**
+	 * Gets the number of amounts recorded.
+	 *
+	 * @return the number of amounts
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Gets the smallest amount recorded.
+	 *
+	 * @return the smallest amount
+	 * @throws IllegalStateException if the histogram is empty
+	 */
+	public Money getMin() {
+		checkNotEmpty();
+		return Money.ofMinorUnits(min, currency);
+	}
+
+	/**
+	 * Gets the largest amount recorded.
+	 *
+	 * @return the largest amount
+	 * @throws IllegalStateException if the histogram is empty
+	 */
+	public Money getMax() {
+		checkNotEmpty();
+		return Money.ofMinorUnits(max, currency);
+	}
+
+	/**
+	 * Gets the amount at a quantile, for example 0.5 for the median or 0.99
+	 * for the 99th percentile. The amount is the middle of the bucket holding
+	 * the quantile, so it is within 1/256 of the recorded amount.
+	 *
+	 * @param quantile the quantile from 0 to 1
+	 * @return the amount at the quantile
+	 * @throws IllegalArgumentException if the quantile is not between 0 and 1
+	 * @throws IllegalStateException if the histogram is empty
+	 */
+	public Money getValueAtQuantile(double quantile) {
+		if (! (quantile >= 0.0 && quantile <= 1.0)) {
+			throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+		}
+		checkNotEmpty();
+
+		long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+		long seen = 0;
+		long value = max;
+		boolean found = false;
+		// negative amounts from the largest magnitude down, then non-negative amounts up
+		for (int i = negative.length - 1; i >= 0 && ! found; i--) {
+			seen += negative[i];
+			if (seen >= rank) {
+				value = -middleValue(i);
+				found = true;
+			}
+		}
+		for (int i = 0; i < positive.length && ! found; i++) {
+			seen += positive[i];
+			if (seen >= rank) {
+				value = middleValue(i);
+				found = true;
+			}
+		}
+		value = Math.max(min, Math.min(max, value));
+		return Money.ofMinorUnits(value, currency);
+	}
+
+	/**
+	 * Add the counts of another histogram to this histogram.
+	 *
+	 * @param other the other histogram
+	 * @throws MismatchedCurrencyException if the histograms are not in the same currency
+	 */
+	public void merge(MoneyHistogram other) throws MismatchedCurrencyException {
+		if (! currency.equals(other.currency)) {
+			throw new MismatchedCurrencyException("Can't merge different currencies");
+		}
+		for (int i = 0; i < other.positive.length; i++) {
+			if (other.positive[i] != 0) {
+				positive = increment(positive, i, other.positive[i]);
+			}
+		}
+		for (int i = 0; i < other.negative.length; i++) {
+			if (other.negative[i] != 0) {
+				negative = increment(negative, i, other.negative[i]);
+			}
+		}
+		totalCount += other.totalCount;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Store the histogram. Only buckets with counts are written.
+	 *
+	 * @return the stored histogram
+	 */
+	public byte[] toByteArray() {
+		int positiveBuckets = countBuckets(positive);
+		int negativeBuckets = countBuckets(negative);
+		ByteBuffer buffer = ByteBuffer.allocate(3 + 3 * 8 + 2 * 4 + (positiveBuckets + negativeBuckets) * 12);
+		putCode(buffer, currency);
+		buffer.putLong(totalCount);
+		buffer.putLong(min);
+		buffer.putLong(max);
+		putBuckets(buffer, positive, positiveBuckets);
+		putBuckets(buffer, negative, negativeBuckets);
+		return buffer.array();
+	}
+
+	/**
+	 * Load a histogram stored by {@link #toByteArray()}.
+	 *
+	 * @param bytes the stored histogram
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the bytes are not a stored histogram
+	 */
+	public static MoneyHistogram fromByteArray(byte[] bytes) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			MoneyHistogram histogram = new MoneyHistogram(getCode(buffer));
+			histogram.totalCount = buffer.getLong();
+			histogram.min = buffer.getLong();
+			histogram.max = buffer.getLong();
+			histogram.positive = getBuckets(buffer, histogram.positive);
+			histogram.negative = getBuckets(buffer, histogram.negative);
+			return histogram;
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Not a stored histogram", ex);
+		}
+	}
+
+	/**
+	 * Gets the bucket of a non-negative amount.
+	 *
+	 * @param magnitude the amount in minor units
+	 * @return the bucket
+	 */
+	static int index(long magnitude) {
+		if (magnitude < SUB_BUCKET_COUNT) {
+			return (int) magnitude;
+		}
+		int shift = 64 - Long.numberOfLeadingZeros(magnitude) - SUB_BUCKET_BITS;
+		return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) ((magnitude >>> shift) - SUB_BUCKET_HALF);
+	}
+
+	/**
+	 * Gets the middle amount of a bucket.
+	 *
+	 * @param index the bucket
+	 * @return the middle amount in minor units
+	 */
+	static long middleValue(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+		long lowest = (long) (SUB_BUCKET_HALF + (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF) << shift;
+		return lowest + ((1L << shift) - 1) / 2;
+	}
+
+	/**
+	 * Add to the count of a bucket, growing the counts if needed.
+	 *
+	 * @param counts the counts
+	 * @param index the bucket
+	 * @param count the count to add
+	 * @return the counts, which may be a new array
+	 */
+	private static long[] increment(long[] counts, int index, long count) {
+		if (index >= counts.length) {
+			counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + SUB_BUCKET_HALF * 4));
+		}
+		counts[index] += count;
+		return counts;
+	}
+
+	/**
+	 * Check that an amount has been recorded.
+	 *
+	 * @throws IllegalStateException if the histogram is empty
+	 */
+	private void checkNotEmpty() {
+		if (totalCount == 0) {
+			throw new IllegalStateException("Histogram is empty");
+		}
+	}
+
+	/**
+	 * Count the buckets that have counts.
+	 *
+	 * @param counts the counts
+	 * @return the number of buckets with counts
+	 */
+	private static int countBuckets(long[] counts) {
+		int buckets = 0;
+		for (long count : counts) {
+			if (count != 0) {
+				buckets++;
+			}
+		}
+		return buckets;
+	}
+
+	/**
+	 * Write the buckets that have counts.
+	 *
+	 * @param buffer the buffer
+	 * @param counts the counts
+	 * @param buckets the number of buckets with counts
+	 */
+	private static void putBuckets(ByteBuffer buffer, long[] counts, int buckets) {
+		buffer.putInt(buckets);
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] != 0) {
+				buffer.putInt(i);
+				buffer.putLong(counts[i]);
+			}
+		}
+	}
+
+	/**
+	 * Read buckets written by {@link #putBuckets(ByteBuffer, long[], int)}.
+	 *
+	 * @param buffer the buffer
+	 * @param counts the empty counts
+	 * @return the counts, which may be a new array
+	 * @throws IllegalArgumentException if a bucket or count is out of range
+	 */
+	private static long[] getBuckets(ByteBuffer buffer, long[] counts) {
+		int buckets = buffer.getInt();
+		for (int i = 0; i < buckets; i++) {
+			int index = buffer.getInt();
+			long count = buffer.getLong();
+			if (index < 0 || index > MAX_INDEX || count < 0) {
+				throw new IllegalArgumentException("Bucket out of range: " + index);
+			}
+			counts = increment(counts, index, count);
+		}
+		return counts;
+	}
+
+	/**
+	 * Write the 3-letter code of a currency.
+	 *
+	 * @param buffer the buffer
+	 * @param currency the currency
+	 */
+	static void putCode(ByteBuffer buffer, Currency currency) {
+		String code = currency.getCurrencyCode();
+		for (int i = 0; i < 3; i++) {
+			buffer.put((byte) code.charAt(i));
+		}
+	}
+
+	/**
+	 * Read a currency written by {@link #putCode(ByteBuffer, Currency)}.
+	 *
+	 * @param buffer the buffer
+	 * @return the currency
+	 */
+	static Currency getCode(ByteBuffer buffer) {
+		char[] code = new char[3];
+		for (int i = 0; i < 3; i++) {
+			code[i] = (char) buffer.get();
+		}
+		return Currency.getInstance(new String(code));
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ * MoneyQuantileSketch.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Currency;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+/**
+ * <p>A KLL quantile sketch of {@link Money} amounts in one currency. The sketch
+ * keeps a bounded sample of minor units in levels of compactors; when a level
+ * is full, it is sorted and every other amount moves up to the next level with
+ * twice the weight. The rank error is about 1.7 / k, and the sketch holds
+ * about 3k amounts however many are recorded.</p>
+ *
+ * <p>Compaction choices come from a seeded generator, so the same amounts
+ * recorded in the same order always give the same sketch.</p>
+ *
+ * <p>Sketches are not thread-safe; each thread or partition records into its
+ * own sketch, and the results are combined with {@link #merge(MoneyQuantileSketch)}.</p>
+ */
+final public class MoneyQuantileSketch {
+	/** Default accuracy parameter */
+	public static final int DEFAULT_K = 200;
+
+	/** Smallest capacity of a level */
+	private static final int MIN_LEVEL_CAPACITY = 8;
+
+	/** Largest accuracy parameter */
+	private static final int MAX_K = 1 << 16;
+
+	/** Most levels; an amount at a higher level would stand for more than 2^62 amounts */
+	private static final int MAX_LEVELS = 63;
+
+	/** The currency */
+	private final Currency currency;
+
+	/** Accuracy parameter */
+	private final int k;
+
+	/** The amounts at each level, in minor units */
+	private long[][] levels;
+
+	/** Number of amounts at each level */
+	private int[] sizes;
+
+	/** Capacity of each level, for the current number of levels */
+	private int[] capacities;
+
+	/** Number of amounts held at all levels */
+	private int retained;
+
+	/** Capacity of all levels */
+	private int totalCapacity;
+
+	/** Number of amounts recorded */
+	private long totalCount;
+
+	/** Smallest amount recorded, in minor units */
+	private long min = Long.MAX_VALUE;
+
+	/** Largest amount recorded, in minor units */
+	private long max = Long.MIN_VALUE;
+
+	/** State of the generator for compaction choices */
+	private long seed = 0x5004L;
+
+	/**
+	 * Initialize an empty sketch with the default accuracy.
+	 *
+	 * @param currency the currency of the amounts
+	 */
+	public MoneyQuantileSketch(Currency currency) {
+		this(currency, DEFAULT_K);
+	}
+
+	/**
+	 * Initialize an empty sketch.
+	 *
+	 * @param currency the currency of the amounts
+	 * @param k the accuracy parameter; larger is more accurate and uses more memory
+	 * @throws IllegalArgumentException if k is less than 8 or more than 65536
+	 */
+	public MoneyQuantileSketch(Currency currency, int k) {
+		if (k < MIN_LEVEL_CAPACITY || k > MAX_K) {
+			throw new IllegalArgumentException("k must be from " + MIN_LEVEL_CAPACITY + " to " + MAX_K + ": " + k);
+		}
+		this.currency = currency;
+		this.k = k;
+		this.levels = new long[][] { new long[k] };
+		this.sizes = new int[1];
+		updateCapacities();
+	}
+
+	/**
+	 * Gets the currency of the amounts.
+	 *
+	 * @return the currency
+	 */
+	public Currency getCurrency() {
+		return currency;
+	}
+
+	/**
+	 * Record money.
+	 *
+	 * @param money the money
+	 * @throws MismatchedCurrencyException if the money is not in the sketch currency
+	 * @throws ArithmeticException if the amount does not fit in a long of minor units
+	 */
+	public void record(Money money) throws MismatchedCurrencyException {
+		if (! currency.equals(money.getCurrency())) {
+			throw new MismatchedCurrencyException("Can't record different currencies");
+		}
+		recordMinorUnits(money.getMinorUnits());
+	}
+
+	/**
+	 * Record an amount in minor units of the sketch currency.
+	 *
+	 * @param minorUnits the amount in minor units
+	 */
+	public void recordMinorUnits(long minorUnits) {
+		append(0, minorUnits);
+		totalCount++;
+		min = Math.min(min, minorUnits);
+		max = Math.max(max, minorUnits);
+		if (retained >= totalCapacity) {
+			compress();
+		}
+	}
+
+	/**
+	 * Gets the number of amounts recorded.
+	 *
+	 * @return the number of amounts
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Gets the amount at a quantile, for example 0.5 for the median or 0.99
+	 * for the 99th percentile.
+	 *
+	 * @param quantile the quantile from 0 to 1
+	 * @return the amount at the quantile
+	 * @throws IllegalArgumentException if the quantile is not between 0 and 1
+	 * @throws IllegalStateException if the sketch is empty
+	 */
+	public Money getValueAtQuantile(double quantile) {
+		if (! (quantile >= 0.0 && quantile <= 1.0)) {
+			throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+		}
+		if (totalCount == 0) {
+			throw new IllegalStateException("Sketch is empty");
+		}
+		if (quantile == 0.0) {
+			return Money.ofMinorUnits(min, currency);
+		}
+		if (quantile == 1.0) {
+			return Money.ofMinorUnits(max, currency);
+		}
+
+		// merge sorted copies of the levels, so reading does not change the sketch;
+		// an amount at level h stands for 2^h recorded amounts
+		long[][] sorted = new long[levels.length][];
+		int[] positions = new int[levels.length];
+		for (int level = 0; level < levels.length; level++) {
+			sorted[level] = Arrays.copyOf(levels[level], sizes[level]);
+			Arrays.sort(sorted[level]);
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+		long seen = 0;
+		while (true) {
+			int next = -1;
+			for (int level = 0; level < sorted.length; level++) {
+				if (positions[level] < sorted[level].length && (next < 0
+						|| sorted[level][positions[level]] < sorted[next][positions[next]])) {
+					next = level;
+				}
+			}
+			if (next < 0) {
+				return Money.ofMinorUnits(max, currency);
+			}
+			long value = sorted[next][positions[next]++];
+			seen += 1L << next;
+			if (seen >= rank) {
+				return Money.ofMinorUnits(value, currency);
+			}
+		}
+	}
+
+	/**
+	 * Add the amounts of another sketch to this sketch.
+	 *
+	 * @param other the other sketch
+	 * @throws MismatchedCurrencyException if the sketches are not in the same currency
+	 * @throws IllegalArgumentException if the sketches have different k
+	 */
+	public void merge(MoneyQuantileSketch other) throws MismatchedCurrencyException {
+		if (! currency.equals(other.currency)) {
+			throw new MismatchedCurrencyException("Can't merge different currencies");
+		}
+		if (k != other.k) {
+			throw new IllegalArgumentException("Can't merge sketches with different k");
+		}
+		// copy the level arrays first, since other may be this sketch
+		long[][] otherLevels = other.levels.clone();
+		int[] otherSizes = other.sizes.clone();
+		for (int level = 0; level < otherLevels.length; level++) {
+			for (int i = 0; i < otherSizes[level]; i++) {
+				append(level, otherLevels[level][i]);
+			}
+		}
+		totalCount += other.totalCount;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		while (retained >= totalCapacity) {
+			compress();
+		}
+	}
+
+	/**
+	 * Store the sketch.
+	 *
+	 * @return the stored sketch
+	 */
+	public byte[] toByteArray() {
+		ByteBuffer buffer = ByteBuffer.allocate(3 + 4 + 4 * 8 + 4 + levels.length * 4 + retained * 8);
+		MoneyHistogram.putCode(buffer, currency);
+		buffer.putInt(k);
+		buffer.putLong(totalCount);
+		buffer.putLong(min);
+		buffer.putLong(max);
+		buffer.putLong(seed);
+		buffer.putInt(levels.length);
+		for (int level = 0; level < levels.length; level++) {
+			buffer.putInt(sizes[level]);
+			for (int i = 0; i < sizes[level]; i++) {
+				buffer.putLong(levels[level][i]);
+			}
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Load a sketch stored by {@link #toByteArray()}.
+	 *
+	 * @param bytes the stored sketch
+	 * @return the sketch
+	 * @throws IllegalArgumentException if the bytes are not a stored sketch
+	 */
+	public static MoneyQuantileSketch fromByteArray(byte[] bytes) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			Currency currency = MoneyHistogram.getCode(buffer);
+			MoneyQuantileSketch sketch = new MoneyQuantileSketch(currency, buffer.getInt());
+			sketch.totalCount = buffer.getLong();
+			sketch.min = buffer.getLong();
+			sketch.max = buffer.getLong();
+			sketch.seed = buffer.getLong();
+			int levelCount = buffer.getInt();
+			if (levelCount < 1 || levelCount > MAX_LEVELS) {
+				throw new IllegalArgumentException("Level count out of range: " + levelCount);
+			}
+			for (int level = 0; level < levelCount; level++) {
+				int size = buffer.getInt();
+				for (int i = 0; i < size; i++) {
+					sketch.append(level, buffer.getLong());
+				}
+			}
+			return sketch;
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Not a stored sketch", ex);
+		}
+	}
+
+	/**
+	 * Compute the capacity of each level. The top level holds k amounts, and
+	 * each level below it holds 2/3 as many.
+	 */
+	private void updateCapacities() {
+		capacities = new int[levels.length];
+		totalCapacity = 0;
+		for (int level = 0; level < levels.length; level++) {
+			int depth = levels.length - level - 1;
+			capacities[level] = Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+			totalCapacity += capacities[level];
+		}
+	}
+
+	/**
+	 * Compact the lowest level that is at or over its capacity. One exists
+	 * whenever the sketch as a whole is at or over its capacity.
+	 */
+	private void compress() {
+		for (int level = 0; level < levels.length; level++) {
+			if (sizes[level] >= capacities[level]) {
+				compact(level);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Sort a level and move every other amount to the next level. If the level
+	 * has an odd number of amounts, one stays behind.
+	 *
+	 * @param level the level
+	 */
+	private void compact(int level) {
+		long[] amounts = levels[level];
+		int size = sizes[level];
+		Arrays.sort(amounts, 0, size);
+
+		int kept = size % 2;
+		int offset = kept + (nextBit() ? 1 : 0);
+		for (int i = offset; i < size; i += 2) {
+			append(level + 1, amounts[i]);
+		}
+		retained -= size - kept;
+		sizes[level] = kept;
+	}
+
+	/**
+	 * Append an amount to a level, adding the level or growing it as needed.
+	 *
+	 * @param level the level
+	 * @param minorUnits the amount
+	 */
+	private void append(int level, long minorUnits) {
+		if (level >= levels.length) {
+			levels = Arrays.copyOf(levels, level + 1);
+			sizes = Arrays.copyOf(sizes, level + 1);
+			for (int i = 0; i <= level; i++) {
+				if (levels[i] == null) {
+					levels[i] = new long[k];
+				}
+			}
+			updateCapacities();
+		}
+		if (sizes[level] == levels[level].length) {
+			levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+		}
+		levels[level][sizes[level]++] = minorUnits;
+		retained++;
+	}
+
+	/**
+	 * Gets a random bit from a xorshift generator.
+	 *
+	 * @return the bit
+	 */
+	private boolean nextBit() {
+		seed ^= seed << 13;
+		seed ^= seed >>> 7;
+		seed ^= seed << 17;
+		return (seed & 1) != 0;
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ *  MoneySketch_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the MoneyHistogram, MoneyQuantileSketch
+ * and MoneyDistinctCounter classes.
+ */
+public class MoneySketch_test {
+	/** Number of amounts recorded in each test */
+	private static final int COUNT = 200000;
+
+	/**
+	 * Random amounts in minor units with a long tail, like transaction sizes.
+	 *
+	 * @param random the random source
+	 * @param count the number of amounts
+	 * @return the amounts
+	 */
+	private static long[] randomAmounts(Random random, int count) {
+		long[] amounts = new long[count];
+		for (int i = 0; i < count; i++) {
+			long amount = (long) Math.exp(random.nextGaussian() * 2.0 + 8.0);
+			amounts[i] = (random.nextInt(10) == 0) ? -amount : amount;
+		}
+		return amounts;
+	}
+
+	/**
+	 * Exact amount at a quantile of sorted amounts.
+	 *
+	 * @param sorted the sorted amounts
+	 * @param quantile the quantile
+	 * @return the amount
+	 */
+	private static long exactQuantile(long[] sorted, double quantile) {
+		long rank = Math.max(1, (long) Math.ceil(quantile * sorted.length));
+		return sorted[(int) rank - 1];
+	}
+
+	/**
+	 * Test histogram buckets, quantiles, merging and storing
+	 */
+	@Test
+	public void test_0010_histogram() {
+		final Currency usd = Currency.getInstance("USD");
+
+		// buckets are within 1/256 of their amounts
+		for (long amount = 0; amount < (1L << 40); amount = amount * 3 / 2 + 1) {
+			long middle = MoneyHistogram.middleValue(MoneyHistogram.index(amount));
+			assertTrue(amount + " " + middle, Math.abs(middle - amount) <= amount / 256.0 + 0.5);
+		}
+		assertEquals(Long.MAX_VALUE, MoneyHistogram.middleValue(MoneyHistogram.index(Long.MAX_VALUE)), 
+				Long.MAX_VALUE / 256.0);
+
+		long[] amounts = randomAmounts(new Random(5004), COUNT);
+		MoneyHistogram histogram = new MoneyHistogram(usd);
+		MoneyHistogram part1 = new MoneyHistogram(usd);
+		MoneyHistogram part2 = new MoneyHistogram(usd);
+		for (int i = 0; i < amounts.length; i++) {
+			histogram.record(Money.ofMinorUnits(amounts[i], usd));
+			(i % 2 == 0 ? part1 : part2).recordMinorUnits(amounts[i]);
+		}
+		part1.merge(part2);
+		MoneyHistogram stored = MoneyHistogram.fromByteArray(histogram.toByteArray());
+
+		long[] sorted = amounts.clone();
+		Arrays.sort(sorted);
+		assertEquals(COUNT, histogram.getTotalCount());
+		assertEquals(Money.ofMinorUnits(sorted[0], usd), histogram.getMin());
+		assertEquals(Money.ofMinorUnits(sorted[COUNT - 1], usd), histogram.getMax());
+		for (double quantile : new double[] { 0.0, 0.01, 0.05, 0.1, 0.5, 0.9, 0.99, 0.999, 1.0 }) {
+			long exact = exactQuantile(sorted, quantile);
+			Money value = histogram.getValueAtQuantile(quantile);
+			assertEquals(usd, value.getCurrency());
+			assertEquals(2, value.getAmount().scale());
+			assertEquals("quantile " + quantile, exact, value.getMinorUnits(), Math.abs(exact) / 256.0 + 0.5);
+			assertEquals(value, part1.getValueAtQuantile(quantile));
+			assertEquals(value, stored.getValueAtQuantile(quantile));
+		}
+
+		try {
+			histogram.record(new Money(1.00, Currency.getInstance("EUR")));
+			// the following 2 lines will never be excuted if there is exception
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (MismatchedCurrencyException ex) {
+			System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+		}
+		try {
+			new MoneyHistogram(usd).getValueAtQuantile(0.5);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IllegalStateException ex) {
+			System.out.printf("IllegalStateException caught: %s\n", ex.getMessage());
+		}
+
+		// a stored bucket past the largest amount is rejected, not allocated
+		byte[] corrupt = histogram.toByteArray();
+		ByteBuffer.wrap(corrupt).putInt(3 + 3 * 8 + 4, Integer.MAX_VALUE);
+		try {
+			MoneyHistogram.fromByteArray(corrupt);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IllegalArgumentException ex) {
+			System.out.printf("IllegalArgumentException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Test quantile sketch accuracy, merging and storing
+	 */
+	@Test
+	public void test_0020_quantileSketch() {
+		final Currency jpy = Currency.getInstance("JPY");
+		long[] amounts = randomAmounts(new Random(5005), COUNT);
+
+		MoneyQuantileSketch sketch = new MoneyQuantileSketch(jpy);
+		MoneyQuantileSketch[] parts = new MoneyQuantileSketch[4];
+		for (int p = 0; p < parts.length; p++) {
+			parts[p] = new MoneyQuantileSketch(jpy);
+		}
+		for (int i = 0; i < amounts.length; i++) {
+			sketch.record(Money.ofMinorUnits(amounts[i], jpy));
+			parts[i % parts.length].recordMinorUnits(amounts[i]);
+		}
+		MoneyQuantileSketch merged = new MoneyQuantileSketch(jpy);
+		for (MoneyQuantileSketch part : parts) {
+			merged.merge(part);
+		}
+		MoneyQuantileSketch stored = MoneyQuantileSketch.fromByteArray(sketch.toByteArray());
+
+		// bounded memory
+		assertTrue(sketch.toByteArray().length < 8 * 4 * MoneyQuantileSketch.DEFAULT_K);
+		assertEquals(COUNT, sketch.getTotalCount());
+		assertEquals(COUNT, merged.getTotalCount());
+
+		long[] sorted = amounts.clone();
+		Arrays.sort(sorted);
+		for (double quantile : new double[] { 0.0, 0.01, 0.1, 0.5, 0.9, 0.99, 1.0 }) {
+			for (MoneyQuantileSketch s : new MoneyQuantileSketch[] { sketch, merged, stored }) {
+				Money value = s.getValueAtQuantile(quantile);
+				assertEquals(jpy, value.getCurrency());
+				// the rank of the result is within 2% of the requested rank
+				long lower = exactQuantile(sorted, Math.max(0.0, quantile - 0.02));
+				long upper = exactQuantile(sorted, Math.min(1.0, quantile + 0.02));
+				assertTrue("quantile " + quantile + ": " + value, 
+						value.getMinorUnits() >= lower && value.getMinorUnits() <= upper);
+			}
+		}
+		assertEquals(sketch.getValueAtQuantile(0.5), stored.getValueAtQuantile(0.5));
+
+		// reading a quantile does not change the sketch
+		stored = MoneyQuantileSketch.fromByteArray(sketch.toByteArray());
+		byte[] before = stored.toByteArray();
+		stored.getValueAtQuantile(0.5);
+		assertArrayEquals(before, stored.toByteArray());
+
+		// a sketch can be merged with itself
+		stored.merge(stored);
+		assertEquals(2 * COUNT, stored.getTotalCount());
+		long median = stored.getValueAtQuantile(0.5).getMinorUnits();
+		assertTrue(median >= exactQuantile(sorted, 0.48) && median <= exactQuantile(sorted, 0.52));
+
+		try {
+			sketch.merge(new MoneyQuantileSketch(Currency.getInstance("USD")));
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (MismatchedCurrencyException ex) {
+			System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Test distinct counting, merging and storing
+	 */
+	@Test
+	public void test_0030_distinctCounter() {
+		final Currency usd = Currency.getInstance("USD");
+		final Currency eur = Currency.getInstance("EUR");
+
+		MoneyDistinctCounter counter = new MoneyDistinctCounter();
+		MoneyDistinctCounter part1 = new MoneyDistinctCounter();
+		MoneyDistinctCounter part2 = new MoneyDistinctCounter();
+		for (int i = 0; i < COUNT; i++) {
+			// each amount twice in USD and once in EUR: 2 * COUNT / 2 distinct values
+			long amount = i / 2;
+			counter.add(Money.ofMinorUnits(amount, usd));
+			counter.addMinorUnits(amount, eur);
+			part1.addMinorUnits(amount, usd);
+			part2.addMinorUnits(amount, eur);
+		}
+		part1.merge(part2);
+		MoneyDistinctCounter stored = MoneyDistinctCounter.fromByteArray(counter.toByteArray());
+
+		long expected = COUNT;
+		assertEquals(expected, counter.getEstimate(), expected * 0.03);
+		assertEquals(counter.getEstimate(), part1.getEstimate());
+		assertEquals(counter.getEstimate(), stored.getEstimate());
+
+		// small counts are exact or nearly so
+		MoneyDistinctCounter small = new MoneyDistinctCounter();
+		for (int i = 0; i < 100; i++) {
+			small.add(new Money(i % 10, usd));
+		}
+		assertEquals(10, small.getEstimate());
+
+		try {
+			counter.merge(new MoneyDistinctCounter(10));
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IllegalArgumentException ex) {
+			System.out.printf("IllegalArgumentException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(MoneySketch_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}
@@ -0,0 +1,524 @@
+/*
+ * MoneyVector.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A column of {@link Money} values stored in Arrow-style columnar buffers.
+ * Each row is stored as its amount in minor units of the currency (see
+ * {@link Money#getMinorUnits()}), either as a little-endian int64 or as a
+ * little-endian two's complement decimal128, together with an int16 index into
+ * a dictionary of currencies.</p>
+ *
+ * <p>The buffers can be handed to or taken from other columnar code without
+ * copying, and can be written to and mapped from a file. Reading a row as minor
+ * units and a currency creates no objects; <tt>Money</tt> is only created when a
+ * row is read with {@link #get(int)}.</p>
+ *
+ * <p>File layout, all little-endian: the magic number, a version byte, the
+ * layout byte, the int16 dictionary size, the int32 row count, the 3-letter
+ * ISO 4217 code of each dictionary currency, then the currency indexes and
+ * the values, each starting on an 8-byte boundary.</p>
+ *
+ * <p><tt>MoneyVector</tt> objects are not thread-safe while rows are appended.</p>
+ */
+final public class MoneyVector {
+	/**
+	 * Storage for the minor units of a row
+	 */
+	public enum Layout {
+		/** 8-byte signed minor units */
+		INT64(8),
+		/** 16-byte signed minor units, for amounts that do not fit in a long */
+		DECIMAL128(16);
+
+		/** Bytes per row */
+		private final int width;
+
+		Layout(int width) {
+			this.width = width;
+		}
+
+		/**
+		 * Gets the number of bytes for each row.
+		 *
+		 * @return the number of bytes per row
+		 */
+		public int getWidth() {
+			return width;
+		}
+	}
+
+	/** Magic number at the start of a file: "MNYV" */
+	private static final int MAGIC = 0x56594E4D;
+
+	/** File format version */
+	private static final byte VERSION = 1;
+
+	/** Bytes for each currency index */
+	private static final int INDEX_WIDTH = 2;
+
+	/** Mask for the low word of a decimal128 as an unsigned value */
+	private static final BigInteger LOW_WORD = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+	/** The layout of the values */
+	private final Layout layout;
+
+	/** The currency dictionary */
+	private final List<Currency> dictionary;
+
+	/** Index of each currency in the dictionary */
+	private final Map<Currency, Integer> dictionaryIndex = new HashMap<Currency, Integer>();
+
+	/** The values buffer */
+	private ByteBuffer values;
+
+	/** The currency indexes buffer */
+	private ByteBuffer currencyIndexes;
+
+	/** The number of rows */
+	private int size;
+
+	/** True if the buffers belong to someone else and must be copied before appending */
+	private boolean shared;
+
+	/**
+	 * Initialize an empty vector.
+	 *
+	 * @param layout the layout of the values
+	 * @param capacity the initial number of rows
+	 */
+	public MoneyVector(Layout layout, int capacity) {
+		this.layout = layout;
+		this.dictionary = new ArrayList<Currency>();
+		this.values = allocate(capacity * layout.getWidth());
+		this.currencyIndexes = allocate(capacity * INDEX_WIDTH);
+		this.size = 0;
+	}
+
+	/**
+	 * Initialize a vector over existing buffers without copying them.
+	 *
+	 * @param layout the layout of the values
+	 * @param dictionary the currency dictionary
+	 * @param currencyIndexes the little-endian int16 currency indexes
+	 * @param values the little-endian values
+	 * @param size the number of rows
+	 */
+	private MoneyVector(Layout layout, List<Currency> dictionary, ByteBuffer currencyIndexes,
+			ByteBuffer values, int size) {
+		this.layout = layout;
+		this.dictionary = new ArrayList<Currency>(dictionary);
+		for (int i = 0; i < dictionary.size(); i++) {
+			dictionaryIndex.put(dictionary.get(i), i);
+		}
+		this.currencyIndexes = currencyIndexes.slice().order(ByteOrder.LITTLE_ENDIAN);
+		this.values = values.slice().order(ByteOrder.LITTLE_ENDIAN);
+		this.size = size;
+		this.shared = true;
+	}
+
+	/**
+	 * Wrap existing columnar buffers without copying them. Rows appended later
+	 * are written to new buffers.
+	 *
+	 * @param layout the layout of the values
+	 * @param dictionary the currency dictionary
+	 * @param currencyIndexes the little-endian int16 currency indexes, starting at position
+	 * @param values the little-endian values, starting at position
+	 * @param size the number of rows
+	 * @return the vector
+	 * @throws IllegalArgumentException if the buffers are too small for the rows
+	 */
+	public static MoneyVector wrap(Layout layout, List<Currency> dictionary, ByteBuffer currencyIndexes,
+			ByteBuffer values, int size) {
+		if (currencyIndexes.remaining() < (long) size * INDEX_WIDTH
+				|| values.remaining() < (long) size * layout.getWidth()) {
+			throw new IllegalArgumentException("Buffers are too small for " + size + " rows");
+		}
+		return new MoneyVector(layout, dictionary, currencyIndexes, values, size);
+	}
+
+	/**
+	 * Gets the layout of the values.
+	 *
+	 * @return the layout
+	 */
+	public Layout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * Gets the number of rows.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the currency dictionary.
+	 *
+	 * @return an unmodifiable view of the currency dictionary
+	 */
+	public List<Currency> getDictionary() {
+		return Collections.unmodifiableList(dictionary);
+	}
+
+	/**
+	 * Gets the values of the rows without copying them.
+	 *
+	 * @return a read-only little-endian buffer of the values
+	 */
+	public ByteBuffer getValues() {
+		return slice(values, size * layout.getWidth());
+	}
+
+	/**
+	 * Gets the currency indexes of the rows without copying them.
+	 *
+	 * @return a read-only little-endian buffer of the int16 currency indexes
+	 */
+	public ByteBuffer getCurrencyIndexes() {
+		return slice(currencyIndexes, size * INDEX_WIDTH);
+	}
+
+	/**
+	 * Append money as a new row.
+	 *
+	 * @param money the money
+	 * @throws ArithmeticException if the amount does not fit in the layout
+	 */
+	public void append(Money money) {
+		if (layout == Layout.INT64) {
+			appendMinorUnits(money.getMinorUnits(), money.getCurrency());
+			return;
+		}
+		BigInteger unscaled = money.getAmount().unscaledValue();
+		if (unscaled.bitLength() > 127) {
+			throw new ArithmeticException("Amount does not fit in decimal128");
+		}
+		int index = currencyIndex(money.getCurrency());
+		ensureCapacity(size + 1);
+		int offset = size * layout.getWidth();
+		values.putLong(offset, unscaled.longValue());
+		values.putLong(offset + 8, unscaled.shiftRight(64).longValue());
+		currencyIndexes.putShort(size * INDEX_WIDTH, (short) index);
+		size++;
+	}
+
+	/**
+	 * Append an amount in minor units of a currency as a new row.
+	 *
+	 * @param minorUnits the amount in minor units
+	 * @param currency the currency
+	 */
+	public void appendMinorUnits(long minorUnits, Currency currency) {
+		int index = currencyIndex(currency);
+		ensureCapacity(size + 1);
+		int offset = size * layout.getWidth();
+		values.putLong(offset, minorUnits);
+		if (layout == Layout.DECIMAL128) {
+			// sign extend into the high word
+			values.putLong(offset + 8, minorUnits >> 63);
+		}
+		currencyIndexes.putShort(size * INDEX_WIDTH, (short) index);
+		size++;
+	}
+
+	/**
+	 * Gets the money in a row.
+	 *
+	 * @param row the row
+	 * @return the money in the row
+	 */
+	public Money get(int row) {
+		Currency currency = getCurrency(row);
+		if (layout == Layout.INT64 || fitsInLong(row)) {
+			return Money.ofMinorUnits(values.getLong(row * layout.getWidth()), currency);
+		}
+		int offset = row * layout.getWidth();
+		BigInteger unscaled = BigInteger.valueOf(values.getLong(offset + 8)).shiftLeft(64)
+				.or(BigInteger.valueOf(values.getLong(offset)).and(LOW_WORD));
+		return new Money(new BigDecimal(unscaled, currency.getDefaultFractionDigits()), currency);
+	}
+
+	/**
+	 * Gets the amount in a row in minor units of its currency.
+	 *
+	 * @param row the row
+	 * @return the amount in minor units
+	 * @throws ArithmeticException if the amount does not fit in a long
+	 */
+	public long getMinorUnits(int row) {
+		checkRow(row);
+		if (layout == Layout.DECIMAL128 && ! fitsInLong(row)) {
+			throw new ArithmeticException("Amount does not fit in a long");
+		}
+		return values.getLong(row * layout.getWidth());
+	}
+
+	/**
+	 * Gets the index in the dictionary of the currency of a row.
+	 *
+	 * @param row the row
+	 * @return the dictionary index of the currency
+	 */
+	public int getCurrencyIndex(int row) {
+		checkRow(row);
+		return currencyIndexes.getShort(row * INDEX_WIDTH);
+	}
+
+	/**
+	 * Gets the currency of a row.
+	 *
+	 * @param row the row
+	 * @return the currency
+	 */
+	public Currency getCurrency(int row) {
+		return dictionary.get(getCurrencyIndex(row));
+	}
+
+	/**
+	 * Write the vector to a file.
+	 *
+	 * @param path the file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path path) throws IOException {
+		int headerSize = headerSize(dictionary.size());
+		ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC);
+		header.put(VERSION);
+		header.put((byte) layout.ordinal());
+		header.putShort((short) dictionary.size());
+		header.putInt(size);
+		for (Currency currency : dictionary) {
+			String code = currency.getCurrencyCode();
+			for (int i = 0; i < 3; i++) {
+				header.put((byte) code.charAt(i));
+			}
+		}
+		header.clear();
+
+		int indexesSize = size * INDEX_WIDTH;
+		ByteBuffer padding = ByteBuffer.allocate(align(indexesSize) - indexesSize);
+		ByteBuffer[] buffers = { header, getCurrencyIndexes(), padding, getValues() };
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		try {
+			long remaining = headerSize + indexesSize + padding.capacity() + (long) size * layout.getWidth();
+			while (remaining > 0) {
+				remaining -= channel.write(buffers);
+			}
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Read a vector from a file. The file is mapped into memory, and rows are
+	 * read from the mapping without copying.
+	 *
+	 * @param path the file
+	 * @return the vector
+	 * @throws IOException if the file cannot be read or is not a vector file
+	 */
+	public static MoneyVector read(Path path) throws IOException {
+		ByteBuffer file;
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Money vector file is too large to map: " + path);
+			}
+			file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			channel.close();
+		}
+		file.order(ByteOrder.LITTLE_ENDIAN);
+
+		if (file.remaining() < headerSize(0) || file.getInt() != MAGIC) {
+			throw new IOException("Not a money vector file: " + path);
+		}
+		if (file.get() != VERSION) {
+			throw new IOException("Unsupported money vector version: " + path);
+		}
+		int layoutOrdinal = file.get();
+		if (layoutOrdinal < 0 || layoutOrdinal >= Layout.values().length) {
+			throw new IOException("Unsupported money vector layout: " + path);
+		}
+		Layout layout = Layout.values()[layoutOrdinal];
+		int dictionarySize = file.getShort();
+		int size = file.getInt();
+		if (dictionarySize < 0 || size < 0) {
+			throw new IOException("Not a money vector file: " + path);
+		}
+
+		int indexesStart = headerSize(dictionarySize);
+		long valuesStart = indexesStart + (((long) size * INDEX_WIDTH + 7) & ~7L);
+		if (file.capacity() < valuesStart + (long) size * layout.getWidth()) {
+			throw new IOException("Truncated money vector file: " + path);
+		}
+
+		List<Currency> dictionary = new ArrayList<Currency>(dictionarySize);
+		byte[] code = new byte[3];
+		for (int i = 0; i < dictionarySize; i++) {
+			file.get(code);
+			try {
+				dictionary.add(Currency.getInstance(new String(code, StandardCharsets.US_ASCII)));
+			} catch (IllegalArgumentException ex) {
+				throw new IOException("Not a money vector file: " + path, ex);
+			}
+		}
+
+		for (int row = 0; row < size; row++) {
+			int index = file.getShort(indexesStart + row * INDEX_WIDTH);
+			if (index < 0 || index >= dictionarySize) {
+				throw new IOException("Not a money vector file: " + path);
+			}
+		}
+
+		file.position(indexesStart);
+		ByteBuffer currencyIndexes = file.slice();
+		file.position((int) valuesStart);
+		ByteBuffer values = file.slice();
+		return new MoneyVector(layout, dictionary, currencyIndexes, values, size);
+	}
+
+	/**
+	 * Determines whether a decimal128 row fits in a long.
+	 *
+	 * @param row the row
+	 * @return true if the high word is only the sign extension of the low word
+	 */
+	private boolean fitsInLong(int row) {
+		int offset = row * layout.getWidth();
+		return values.getLong(offset + 8) == (values.getLong(offset) >> 63);
+	}
+
+	/**
+	 * Gets the dictionary index of a currency, adding it if necessary.
+	 *
+	 * @param currency the currency
+	 * @return the dictionary index
+	 */
+	private int currencyIndex(Currency currency) {
+		Integer index = dictionaryIndex.get(currency);
+		if (index == null) {
+			if (dictionary.size() > Short.MAX_VALUE) {
+				throw new IllegalStateException("Too many currencies");
+			}
+			index = dictionary.size();
+			dictionary.add(currency);
+			dictionaryIndex.put(currency, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Ensure there is room for a number of rows, growing the buffers if needed.
+	 *
+	 * @param rows the number of rows
+	 */
+	private void ensureCapacity(int rows) {
+		if (! shared && values.capacity() >= rows * layout.getWidth()
+				&& currencyIndexes.capacity() >= rows * INDEX_WIDTH) {
+			return;
+		}
+		int capacity = Math.max(rows, Math.max(16, size * 2));
+		values = grow(values, size * layout.getWidth(), capacity * layout.getWidth());
+		currencyIndexes = grow(currencyIndexes, size * INDEX_WIDTH, capacity * INDEX_WIDTH);
+		shared = false;
+	}
+
+	/**
+	 * Check that a row exists.
+	 *
+	 * @param row the row
+	 * @throws IndexOutOfBoundsException if the row does not exist
+	 */
+	private void checkRow(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+		}
+	}
+
+	/**
+	 * Allocate a little-endian direct buffer.
+	 *
+	 * @param bytes the number of bytes
+	 * @return the buffer
+	 */
+	private static ByteBuffer allocate(int bytes) {
+		return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Copy the used part of a buffer into a larger buffer.
+	 *
+	 * @param buffer the buffer
+	 * @param used the number of bytes used
+	 * @param bytes the new number of bytes
+	 * @return the new buffer
+	 */
+	private static ByteBuffer grow(ByteBuffer buffer, int used, int bytes) {
+		ByteBuffer grown = allocate(bytes);
+		grown.put(slice(buffer, used));
+		grown.clear();
+		return grown;
+	}
+
+	/**
+	 * Gets a read-only little-endian slice of the start of a buffer.
+	 *
+	 * @param buffer the buffer
+	 * @param bytes the number of bytes
+	 * @return the slice
+	 */
+	private static ByteBuffer slice(ByteBuffer buffer, int bytes) {
+		ByteBuffer slice = buffer.asReadOnlyBuffer();
+		slice.clear().limit(bytes);
+		return slice.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Gets the size of a file header, aligned to 8 bytes.
+	 *
+	 * @param dictionarySize the number of currencies
+	 * @return the header size
+	 */
+	private static int headerSize(int dictionarySize) {
+		return align(12 + 3 * dictionarySize);
+	}
+
+	/**
+	 * Round a size up to a multiple of 8 bytes.
+	 *
+	 * @param bytes the size
+	 * @return the aligned size
+	 */
+	private static int align(int bytes) {
+		return (bytes + 7) & ~7;
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ *  MoneyVector_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the MoneyVector class.
+ */
+public class MoneyVector_test {
+	/** Currencies with 0, 2 and 3 fraction digits */
+	private static final Currency[] currencies = {
+		Currency.getInstance("USD"), Currency.getInstance("JPY"), Currency.getInstance("BHD")
+	};
+
+	/**
+	 * Test minor units conversion in Money
+	 */
+	@Test
+	public void test_0010_minorUnits() {
+		final Currency usd = Currency.getInstance("USD");
+		final Currency jpy = Currency.getInstance("JPY");
+		final Currency bhd = Currency.getInstance("BHD");
+
+		assertEquals(1011, new Money(10.1051, usd).getMinorUnits());
+		assertEquals(-10, new Money(-10.1051, jpy).getMinorUnits());
+		assertEquals(10105, new Money(10.1051, bhd).getMinorUnits());
+		assertEquals(new Money(10.11, usd), Money.ofMinorUnits(1011, usd));
+		assertEquals(new Money(-10, jpy), Money.ofMinorUnits(-10, jpy));
+		assertEquals(new Money(10.105, bhd), Money.ofMinorUnits(10105, bhd));
+
+		try {
+			new Money(new BigDecimal("1e30"), usd).getMinorUnits();
+			// the following 2 lines will never be excuted if there is exception
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (ArithmeticException ex) {
+			System.out.printf("ArithmeticException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Test appending and reading rows in both layouts
+	 */
+	@Test
+	public void test_0020_append() {
+		for (MoneyVector.Layout layout : MoneyVector.Layout.values()) {
+			MoneyVector vector = new MoneyVector(layout, 2);
+			Money[] expected = randomMoney(new Random(5004), 1000);
+			for (Money money : expected) {
+				vector.append(money);
+			}
+			vector.appendMinorUnits(Long.MIN_VALUE, currencies[0]);
+
+			assertEquals(expected.length + 1, vector.size());
+			assertEquals(Arrays.asList(currencies), vector.getDictionary());
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], vector.get(i));
+				assertEquals(expected[i].getMinorUnits(), vector.getMinorUnits(i));
+				assertEquals(expected[i].getCurrency(), vector.getCurrency(i));
+			}
+			assertEquals(Long.MIN_VALUE, vector.getMinorUnits(expected.length));
+			assertEquals(layout.getWidth() * vector.size(), vector.getValues().remaining());
+			assertEquals(2 * vector.size(), vector.getCurrencyIndexes().remaining());
+
+			try {
+				vector.get(vector.size());
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (IndexOutOfBoundsException ex) {
+				System.out.printf("IndexOutOfBoundsException caught: %s\n", ex.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Test amounts that do not fit in a long
+	 */
+	@Test
+	public void test_0030_decimal128() {
+		final Currency usd = Currency.getInstance("USD");
+		Money large = new Money(new BigDecimal("-123456789012345678901234.56"), usd);
+
+		MoneyVector vector = new MoneyVector(MoneyVector.Layout.DECIMAL128, 1);
+		vector.append(large);
+		assertEquals(large, vector.get(0));
+		try {
+			vector.getMinorUnits(0);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (ArithmeticException ex) {
+			System.out.printf("ArithmeticException caught: %s\n", ex.getMessage());
+		}
+
+		// int64 columns cannot hold the amount
+		try {
+			new MoneyVector(MoneyVector.Layout.INT64, 1).append(large);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (ArithmeticException ex) {
+			System.out.printf("ArithmeticException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Test writing a vector to a file and mapping it back
+	 */
+	@Test
+	public void test_0040_file() throws IOException {
+		for (MoneyVector.Layout layout : MoneyVector.Layout.values()) {
+			MoneyVector vector = new MoneyVector(layout, 16);
+			Money[] expected = randomMoney(new Random(5004), 999);
+			for (Money money : expected) {
+				vector.append(money);
+			}
+
+			Path path = Files.createTempFile("money", ".vector");
+			try {
+				vector.write(path);
+				MoneyVector read = MoneyVector.read(path);
+				assertEquals(layout, read.getLayout());
+				assertEquals(vector.size(), read.size());
+				assertEquals(vector.getDictionary(), read.getDictionary());
+				assertEquals(vector.getValues(), read.getValues());
+				assertEquals(vector.getCurrencyIndexes(), read.getCurrencyIndexes());
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals(expected[i], read.get(i));
+				}
+
+				// rows can be appended to a mapped vector
+				Money money = new Money(1.23, currencies[2]);
+				read.append(money);
+				assertEquals(money, read.get(expected.length));
+				assertEquals(expected[0], read.get(0));
+			} finally {
+				Files.delete(path);
+			}
+		}
+
+		Path path = Files.createTempFile("money", ".vector");
+		try {
+			Files.write(path, new byte[] { 1, 2, 3 });
+			MoneyVector.read(path);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IOException ex) {
+			System.out.printf("IOException caught: %s\n", ex.getMessage());
+		} finally {
+			Files.delete(path);
+		}
+
+		// headers with a negative row count, a negative dictionary size or an unknown currency,
+		// and a row with a currency index past the dictionary or negative
+		MoneyVector vector = new MoneyVector(MoneyVector.Layout.INT64, 16);
+		vector.append(new Money(1.23, currencies[1]));
+		int[][] corruptions = { { 8, 0xff, 0xff, 0xff, 0xff }, { 6, 0xff, 0xff }, { 12, '?', '?', '?' },
+				{ 16, 1, 0 }, { 16, 0xff, 0xff } };
+		for (int[] corruption : corruptions) {
+			path = Files.createTempFile("money", ".vector");
+			try {
+				vector.write(path);
+				byte[] bytes = Files.readAllBytes(path);
+				for (int i = 1; i < corruption.length; i++) {
+					bytes[corruption[0] + i - 1] = (byte) corruption[i];
+				}
+				Files.write(path, bytes);
+				MoneyVector.read(path);
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (IOException ex) {
+				System.out.printf("IOException caught: %s\n", ex.getMessage());
+			} finally {
+				Files.delete(path);
+			}
+		}
+	}
+
+	/**
+	 * Test wrapping existing buffers
+	 */
+	@Test
+	public void test_0050_wrap() {
+		ByteBuffer values = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+		values.putLong(1011).putLong(-5).putLong(10105);
+		values.flip();
+		ByteBuffer indexes = ByteBuffer.allocate(6).order(ByteOrder.LITTLE_ENDIAN);
+		indexes.putShort((short) 0).putShort((short) 1).putShort((short) 2);
+		indexes.flip();
+
+		MoneyVector vector = MoneyVector.wrap(MoneyVector.Layout.INT64, Arrays.asList(currencies),
+				indexes, values, 3);
+		assertEquals(new Money(10.11, currencies[0]), vector.get(0));
+		assertEquals(new Money(-5, currencies[1]), vector.get(1));
+		assertEquals(new Money(10.105, currencies[2]), vector.get(2));
+
+		// appending does not write into the wrapped buffers
+		vector.append(new Money(1.00, currencies[0]));
+		assertEquals(24, values.limit());
+		assertEquals(new Money(1.00, currencies[0]), vector.get(3));
+
+		try {
+			MoneyVector.wrap(MoneyVector.Layout.INT64, Arrays.asList(currencies), indexes, values, 4);
+			System.out.println("This will never be excuted");
+			fail();
+		} catch (IllegalArgumentException ex) {
+			System.out.printf("IllegalArgumentException caught: %s\n", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Random money in the test currencies.
+	 *
+	 * @param random the random source
+	 * @param count the number of values
+	 * @return the money
+	 */
+	private static Money[] randomMoney(Random random, int count) {
+		Money[] money = new Money[count];
+		for (int i = 0; i < count; i++) {
+			long unscaled = random.nextLong() >> random.nextInt(64);
+			money[i] = Money.ofMinorUnits(unscaled, currencies[i % currencies.length]);
+		}
+		return money;
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(MoneyVector_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}
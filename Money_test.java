@@ -9,8 +9,11 @@ package edu.northeastern.cs_5004;
 import static org.junit.Assert.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Currency;
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
 
 import org.junit.FixMethodOrder;  
 import org.junit.Test;
@@ -454,6 +457,238 @@ public class Money_test {
 		assertEquals(1118.0, money3.getAmount().doubleValue(), 0.0);
 		assertEquals("￥1118", money3.toString(Locale.JAPAN));
 	}
+
+	/** Number of differential cases; run with -Dmoney.fuzz.cases=N for a throughput run */
+	private static final int fuzzCases = Integer.getInteger("money.fuzz.cases", 20000);
+
+	/** Seed for differential cases; run with -Dmoney.fuzz.seed=N to reproduce a failure */
+	private static final long fuzzSeed = Long.getLong("money.fuzz.seed", 5004L);
+
+	/** Currencies with 0, 2 and 3 fraction digits */
+	private static final Currency[] fuzzCurrencies = {
+		Currency.getInstance("JPY"), Currency.getInstance("USD"), Currency.getInstance("EUR"),
+		Currency.getInstance("BHD"), Currency.getInstance("KWD")
+	};
+
+	/**
+	 * Reference oracle for rounding: plain BigDecimal rounded to the fraction
+	 * digits of the currency using banker's rounding.
+	 * 
+	 * @param amount the exact amount
+	 * @param currency the currency
+	 * @return the rounded amount
+	 */
+	private static BigDecimal reference(BigDecimal amount, Currency currency) {
+		return amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_EVEN);
+	}
+
+	/**
+	 * Test Money operations against the BigDecimal reference with random amounts,
+	 * scales and currencies. Any fast path in Money must produce exactly the same
+	 * amount, scale, currency and exceptions as the reference.
+	 */
+	@Test
+	public void test_0100_differential() {
+		Random random = new Random(fuzzSeed);
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < fuzzCases; i++) {
+			differentialCase(random, i);
+		}
+		double millis = (System.nanoTime() - start) / 1e6;
+		System.out.printf("Differential cases: %d in %.1f ms (%.0f cases/s)\n", 
+				fuzzCases, millis, fuzzCases / (millis / 1000.0));
+	}
+
+	/**
+	 * Run one random operation on Money and on the reference, and compare them.
+	 * 
+	 * @param random the random source
+	 * @param caseNumber the case number for failure messages
+	 */
+	private static void differentialCase(Random random, int caseNumber) {
+		final Currency currency = fuzzCurrencies[random.nextInt(fuzzCurrencies.length)];
+		// mostly the same currency, sometimes a mismatched one
+		final Currency other = (random.nextInt(8) == 0) 
+				? fuzzCurrencies[random.nextInt(fuzzCurrencies.length)] : currency;
+		final Currency target = fuzzCurrencies[random.nextInt(fuzzCurrencies.length)];
+		final boolean same = currency.equals(other);
+		
+		final BigDecimal x = randomAmount(random);
+		final BigDecimal y = randomAmount(random);
+		final long factor = random.nextInt(2001) - 1000;
+		final double doubleFactor = randomDouble(random);
+		
+		final Money a = new Money(x, currency);
+		final Money b = new Money(y, other);
+		final BigDecimal ra = reference(x, currency);
+		final BigDecimal rb = reference(y, other);
+		
+		String description;
+		Callable<Money> actual;
+		Callable<BigDecimal> expected;
+		Currency expectedCurrency = currency;
+		switch (random.nextInt(13)) {
+		case 0:
+			description = "add";
+			actual = () -> a.add(b);
+			expected = () -> reference(mismatch(same).add(ra.add(rb)), currency);
+			break;
+		case 1:
+			description = "add varargs";
+			actual = () -> a.add(b, a, b);
+			expected = () -> reference(mismatch(same).add(ra.add(rb).add(ra).add(rb)), currency);
+			break;
+		case 2:
+			description = "subtract";
+			actual = () -> a.subtract(b);
+			expected = () -> reference(mismatch(same).add(ra.subtract(rb)), currency);
+			break;
+		case 3:
+			description = "multiply money";
+			actual = () -> a.multiply(b);
+			expected = () -> reference(mismatch(same).add(ra.multiply(rb)), currency);
+			break;
+		case 4:
+			description = "multiply long " + factor;
+			actual = () -> a.multiply(factor);
+			expected = () -> reference(ra.multiply(BigDecimal.valueOf(factor)), currency);
+			break;
+		case 5:
+			description = "multiply double " + doubleFactor;
+			actual = () -> a.multiply(doubleFactor);
+			expected = () -> reference(ra.multiply(BigDecimal.valueOf(doubleFactor)), currency);
+			break;
+		case 6:
+			description = "divide money";
+			actual = () -> a.divide(b);
+			expected = () -> reference(mismatch(same).add(ra.divide(rb)), currency);
+			break;
+		case 7:
+			description = "divide long " + factor;
+			actual = () -> a.divide(factor);
+			expected = () -> reference(ra.divide(BigDecimal.valueOf(factor)), currency);
+			break;
+		case 8:
+			description = "divide double " + doubleFactor;
+			actual = () -> a.divide(doubleFactor);
+			expected = () -> reference(ra.divide(BigDecimal.valueOf(doubleFactor)), currency);
+			break;
+		case 9:
+			description = "remainder";
+			actual = () -> a.remainder(b);
+			expected = () -> reference(mismatch(same).add(ra.remainder(rb)), currency);
+			break;
+		case 10:
+			description = "abs";
+			actual = () -> a.abs();
+			expected = () -> ra.abs();
+			break;
+		case 11:
+			description = "negate";
+			actual = () -> a.negate();
+			expected = () -> ra.negate();
+			break;
+		default:
+			description = "asCurrency " + target + " " + doubleFactor;
+			actual = () -> a.asCurrency(target, doubleFactor);
+			expected = () -> currency.equals(target) 
+					? ra : reference(ra.multiply(BigDecimal.valueOf(doubleFactor)), target);
+			expectedCurrency = target;
+			break;
+		}
+		
+		String failure = compare(actual, expected, expectedCurrency);
+		if (failure != null) {
+			// only build the message on failure to keep throughput runs fast
+			fail(String.format("case %d (seed %d): %s %s %s, %s %s: %s", caseNumber, fuzzSeed, 
+					description, x, currency, y, other, failure));
+		}
+	}
+	
+	/**
+	 * Reference check for operations on two currencies.
+	 * 
+	 * @param same true if the operands are in the same currency
+	 * @return zero to add to the reference result
+	 * @throws MismatchedCurrencyException if the operands are not in the same currency
+	 */
+	private static BigDecimal mismatch(boolean same) throws MismatchedCurrencyException {
+		if (! same) {
+			throw new MismatchedCurrencyException("reference");
+		}
+		return BigDecimal.ZERO;
+	}
+
+	/**
+	 * Compare a Money operation with the reference. Both must produce the same
+	 * amount (including its scale) and currency, or throw the same type of exception.
+	 * 
+	 * @param actual the Money operation
+	 * @param expected the reference operation
+	 * @param expectedCurrency the currency of the reference result
+	 * @return null if they match, otherwise a description of the difference
+	 */
+	private static String compare(Callable<Money> actual, Callable<BigDecimal> expected,
+			Currency expectedCurrency) {
+		Money result = null;
+		Exception actualException = null;
+		try {
+			result = actual.call();
+		} catch (Exception ex) {
+			actualException = ex;
+		}
+		
+		BigDecimal reference = null;
+		Exception expectedException = null;
+		try {
+			reference = expected.call();
+		} catch (Exception ex) {
+			expectedException = ex;
+		}
+		
+		if (expectedException != null || actualException != null) {
+			if (expectedException == null || actualException == null 
+					|| expectedException.getClass() != actualException.getClass()) {
+				return "expected " + expectedException + " but was " + actualException;
+			}
+		} else if (! reference.equals(result.getAmount()) || ! expectedCurrency.equals(result.getCurrency())) {
+			return "expected " + reference + " " + expectedCurrency 
+					+ " but was " + result.getAmount() + " " + result.getCurrency();
+		}
+		return null;
+	}
+
+	/**
+	 * Random amount with a random scale, from fractions of a cent up to the limit of a long.
+	 * 
+	 * @param random the random source
+	 * @return the amount
+	 */
+	private static BigDecimal randomAmount(Random random) {
+		if (random.nextInt(50) == 0) {
+			return BigDecimal.ZERO;
+		}
+		long unscaled = random.nextLong() >> (1 + random.nextInt(63));
+		return BigDecimal.valueOf(unscaled, random.nextInt(7));
+	}
+
+	/**
+	 * Random double factor: zero, exact binary fractions, or doubles with many decimal digits.
+	 * 
+	 * @param random the random source
+	 * @return the factor
+	 */
+	private static double randomDouble(Random random) {
+		switch (random.nextInt(4)) {
+		case 0:
+			return (random.nextInt(50) == 0) ? 0.0 : (random.nextInt(2001) - 1000) / 8.0;
+		case 1:
+			return (random.nextInt(2001) - 1000) / 100.0;
+		default:
+			return (random.nextDouble() - 0.5) * 1000.0;
+		}
+	}
 	
 	/**
 	 * Run the tests in this class.
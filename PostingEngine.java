@@ -0,0 +1,419 @@
+/*
+ * PostingEngine.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+
+/**
+ * <p>Applies batches of postings to account balances in parallel. Postings are
+ * partitioned by account, so each account is updated by one thread in batch
+ * order, without locks. Balances are kept as minor units of the account currency,
+ * and a posting is applied with a single addition.</p>
+ *
+ * <p>The result of a batch does not depend on how its partitions are scheduled:
+ * every batch produces the same balances and the same {@link Journal}. A posting
+ * in a different currency than its account is rejected, with the semantics of
+ * {@link MismatchedCurrencyException}, and leaves the balance unchanged.</p>
+ *
+ * <p>Batches are applied one at a time. The engine owns a thread pool that is
+ * released by {@link #close()}.</p>
+ */
+final public class PostingEngine implements AutoCloseable {
+	/**
+	 * A debit or credit of money to an account
+	 */
+	public static final class Posting {
+		/** The account */
+		private final String account;
+
+		/** The amount; negative for debits */
+		private final Money amount;
+
+		/** The amount in minor units, so postings are applied without creating objects */
+		private final long minorUnits;
+
+		/** Whether the amount fits in a long of minor units */
+		private final boolean fitsInLong;
+
+		/**
+		 * Initialize a posting. Positive amounts are credits and negative
+		 * amounts are debits.
+		 *
+		 * @param account the account
+		 * @param amount the amount
+		 * @throws NullPointerException if the account or amount is null
+		 */
+		public Posting(String account, Money amount) {
+			this.account = Objects.requireNonNull(account, "account");
+			this.amount = Objects.requireNonNull(amount, "amount");
+			long units = 0;
+			boolean fits = true;
+			try {
+				units = amount.getMinorUnits();
+			} catch (ArithmeticException ex) {
+				fits = false;
+			}
+			this.minorUnits = units;
+			this.fitsInLong = fits;
+		}
+
+		/**
+		 * Create a credit, which adds money to an account.
+		 *
+		 * @param account the account
+		 * @param money the money
+		 * @return the posting
+		 */
+		public static Posting credit(String account, Money money) {
+			return new Posting(account, money);
+		}
+
+		/**
+		 * Create a debit, which subtracts money from an account.
+		 *
+		 * @param account the account
+		 * @param money the money
+		 * @return the posting
+		 */
+		public static Posting debit(String account, Money money) {
+			return new Posting(account, money.negate());
+		}
+
+		/**
+		 * Gets the account.
+		 *
+		 * @return the account
+		 */
+		public String getAccount() {
+			return account;
+		}
+
+		/**
+		 * Gets the amount; negative for debits.
+		 *
+		 * @return the amount
+		 */
+		public Money getAmount() {
+			return amount;
+		}
+	}
+
+	/**
+	 * Outcome of a posting
+	 */
+	public enum Status {
+		/** The posting was applied */
+		APPLIED,
+		/** The posting is in a different currency than its account */
+		MISMATCHED_CURRENCY,
+		/** The account has not been opened */
+		UNKNOWN_ACCOUNT,
+		/** The balance or amount does not fit in a long of minor units */
+		OVERFLOW
+	}
+
+	/**
+	 * Outcome of each posting of a batch, in batch order, with the balance of
+	 * its account after the posting in minor units of the account currency.
+	 */
+	public static final class Journal {
+		/** The statuses by ordinal; values() copies the array on every call */
+		private static final Status[] STATUSES = Status.values();
+
+		/** Status ordinal of each posting */
+		private final byte[] statuses;
+
+		/** Balance after each posting, in minor units */
+		private final long[] balances;
+
+		/** Account of each posting to an unknown account, by index */
+		private final ConcurrentMap<Integer, String> unknownAccounts = new ConcurrentHashMap<Integer, String>();
+
+		/**
+		 * Initialize an empty journal for a batch.
+		 *
+		 * @param size the number of postings in the batch
+		 */
+		private Journal(int size) {
+			this.statuses = new byte[size];
+			this.balances = new long[size];
+		}
+
+		/**
+		 * Gets the number of postings.
+		 *
+		 * @return the number of postings
+		 */
+		public int size() {
+			return statuses.length;
+		}
+
+		/**
+		 * Gets the outcome of a posting.
+		 *
+		 * @param index the index of the posting in the batch
+		 * @return the outcome
+		 */
+		public Status getStatus(int index) {
+			return STATUSES[statuses[index]];
+		}
+
+		/**
+		 * Gets the balance of the account of a posting after the posting, in
+		 * minor units of the account currency. The balance is unchanged if the
+		 * posting was rejected, and 0 if the account is unknown.
+		 *
+		 * @param index the index of the posting in the batch
+		 * @return the balance in minor units
+		 */
+		public long getBalanceAfter(int index) {
+			return balances[index];
+		}
+
+		/**
+		 * Gets the number of rejected postings.
+		 *
+		 * @return the number of postings that were not applied
+		 */
+		public int getRejectedCount() {
+			int rejected = 0;
+			for (byte status : statuses) {
+				if (status != Status.APPLIED.ordinal()) {
+					rejected++;
+				}
+			}
+			return rejected;
+		}
+
+		/**
+		 * Check that every posting was applied.
+		 *
+		 * @throws MismatchedCurrencyException for the first posting in a different currency than its account
+		 * @throws IllegalArgumentException for the first posting to an unknown account
+		 * @throws ArithmeticException for the first posting that overflowed
+		 */
+		public void checkApplied() throws MismatchedCurrencyException {
+			for (int i = 0; i < statuses.length; i++) {
+				switch (getStatus(i)) {
+				case MISMATCHED_CURRENCY:
+					throw new MismatchedCurrencyException("Can't post different currencies: posting " + i);
+				case UNKNOWN_ACCOUNT:
+					throw new IllegalArgumentException("Unknown account " + unknownAccounts.get(i)
+							+ ": posting " + i);
+				case OVERFLOW:
+					throw new ArithmeticException("Overflow: posting " + i);
+				default:
+					break;
+				}
+			}
+		}
+	}
+
+	/** Balance of an account; only updated by the thread of its partition */
+	private static final class Account {
+		final Currency currency;
+		long balance;
+
+		Account(Currency currency, long balance) {
+			this.currency = currency;
+			this.balance = balance;
+		}
+	}
+
+	/** The accounts */
+	private final Map<String, Account> accounts = new HashMap<String, Account>();
+
+	/** Number of partitions */
+	private final int partitions;
+
+	/** Threads for the partitions, or null to apply batches on the calling thread */
+	private final ExecutorService executor;
+
+	/**
+	 * Initialize an engine with one partition for each available processor.
+	 */
+	public PostingEngine() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Initialize an engine.
+	 *
+	 * @param partitions the number of partitions to apply in parallel
+	 * @throws IllegalArgumentException if partitions is less than 1
+	 */
+	public PostingEngine(int partitions) {
+		if (partitions < 1) {
+			throw new IllegalArgumentException("Partitions must be at least 1: " + partitions);
+		}
+		this.partitions = partitions;
+		this.executor = (partitions == 1) ? null : Executors.newFixedThreadPool(partitions);
+	}
+
+	/**
+	 * Open an account.
+	 *
+	 * @param account the account
+	 * @param openingBalance the opening balance, which sets the account currency
+	 * @throws IllegalArgumentException if the account is already open
+	 * @throws ArithmeticException if the balance does not fit in a long of minor units
+	 */
+	public synchronized void openAccount(String account, Money openingBalance) {
+		if (accounts.containsKey(account)) {
+			throw new IllegalArgumentException("Account already open: " + account);
+		}
+		accounts.put(account, new Account(openingBalance.getCurrency(), openingBalance.getMinorUnits()));
+	}
+
+	/**
+	 * Gets the balance of an account.
+	 *
+	 * @param account the account
+	 * @return the balance
+	 * @throws IllegalArgumentException if the account is not open
+	 */
+	public synchronized Money getBalance(String account) {
+		Account balance = accounts.get(account);
+		if (balance == null) {
+			throw new IllegalArgumentException("Unknown account: " + account);
+		}
+		return Money.ofMinorUnits(balance.balance, balance.currency);
+	}
+
+	/**
+	 * Apply a batch of postings. Postings to the same account are applied in
+	 * batch order; postings to different accounts are applied in parallel.
+	 * Rejected postings are recorded in the journal and do not stop the batch.
+	 *
+	 * @param batch the postings
+	 * @return the journal of the batch
+	 */
+	public synchronized Journal post(List<Posting> batch) {
+		final Journal journal = new Journal(batch.size());
+
+		// partition the postings by account, keeping batch order within each partition
+		int[] counts = new int[partitions];
+		int[] partitionOf = new int[batch.size()];
+		for (int i = 0; i < batch.size(); i++) {
+			// a null posting fails the batch here, before any posting is applied
+			Posting posting = Objects.requireNonNull(batch.get(i), "posting");
+			partitionOf[i] = (posting.getAccount().hashCode() & Integer.MAX_VALUE) % partitions;
+			counts[partitionOf[i]]++;
+		}
+		final int[][] indexes = new int[partitions][];
+		for (int p = 0; p < partitions; p++) {
+			indexes[p] = new int[counts[p]];
+			counts[p] = 0;
+		}
+		for (int i = 0; i < batch.size(); i++) {
+			int p = partitionOf[i];
+			indexes[p][counts[p]++] = i;
+		}
+
+		if (executor == null) {
+			apply(batch, indexes[0], journal);
+			return journal;
+		}
+
+		List<Future<Void>> futures = new ArrayList<Future<Void>>(partitions);
+		for (int p = 0; p < partitions; p++) {
+			final int[] partition = indexes[p];
+			futures.add(executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() {
+					apply(batch, partition, journal);
+					return null;
+				}
+			}));
+		}
+		// wait for every partition, so no balance changes after post() returns
+		Throwable failure = null;
+		boolean interrupted = false;
+		for (Future<Void> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException ex) {
+					interrupted = true;
+				} catch (ExecutionException ex) {
+					if (failure == null) {
+						failure = ex.getCause();
+					}
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		} else if (failure != null) {
+			throw new IllegalStateException(failure);
+		}
+		return journal;
+	}
+
+	/**
+	 * Release the threads of the engine.
+	 */
+	@Override
+	public void close() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Apply the postings of one partition in order.
+	 *
+	 * @param batch the postings
+	 * @param partition the indexes of the postings in the partition
+	 * @param journal the journal to record outcomes in
+	 */
+	private void apply(List<Posting> batch, int[] partition, Journal journal) {
+		for (int i : partition) {
+			Posting posting = batch.get(i);
+			Account account = accounts.get(posting.getAccount());
+			Status status;
+			if (account == null) {
+				status = Status.UNKNOWN_ACCOUNT;
+				journal.unknownAccounts.put(i, posting.getAccount());
+			} else if (! account.currency.equals(posting.getAmount().getCurrency())) {
+				status = Status.MISMATCHED_CURRENCY;
+			} else if (! posting.fitsInLong) {
+				status = Status.OVERFLOW;
+			} else {
+				try {
+					account.balance = Math.addExact(account.balance, posting.minorUnits);
+					status = Status.APPLIED;
+				} catch (ArithmeticException ex) {
+					status = Status.OVERFLOW;
+				}
+			}
+			journal.statuses[i] = (byte) status.ordinal();
+			journal.balances[i] = (account == null) ? 0 : account.balance;
+		}
+	}
+}
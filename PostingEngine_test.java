@@ -0,0 +1,248 @@
+/*
+ *  PostingEngine_test.java
+ *
+ *  @since October 19, 2026
+ *  @author agent
+ */
+package edu.northeastern.cs_5004;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runners.MethodSorters;
+
+import edu.northeastern.cs_5004.Money.MismatchedCurrencyException;
+import edu.northeastern.cs_5004.PostingEngine.Journal;
+import edu.northeastern.cs_5004.PostingEngine.Posting;
+import edu.northeastern.cs_5004.PostingEngine.Status;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+
+/**
+ * This class performs unit tests for the PostingEngine class.
+ */
+public class PostingEngine_test {
+	/** Number of postings in the benchmark; run with -Dmoney.posting.count=N for a larger run */
+	private static final int postingCount = Integer.getInteger("money.posting.count", 200000);
+
+	/** Number of accounts in the benchmark */
+	private static final int accountCount = 1000;
+
+	/** Number of timed runs of each path; the first runs also warm up the JIT */
+	private static final int timingRuns = Math.max(1, Integer.getInteger("money.posting.runs", 5));
+
+	/**
+	 * Test applying postings and rejecting invalid ones
+	 */
+	@Test
+	public void test_0010_post() {
+		final Currency usd = Currency.getInstance("USD");
+		final Currency jpy = Currency.getInstance("JPY");
+
+		try (PostingEngine engine = new PostingEngine(2)) {
+			engine.openAccount("alice", new Money(100.00, usd));
+			engine.openAccount("bob", new Money(0, jpy));
+
+			List<Posting> batch = Arrays.asList(
+					Posting.debit("alice", new Money(30.25, usd)),
+					Posting.credit("bob", new Money(500, jpy)),
+					Posting.credit("alice", new Money(500, jpy)),
+					Posting.credit("carol", new Money(1.00, usd)),
+					Posting.credit("alice", new Money(0.50, usd)));
+			Journal journal = engine.post(batch);
+
+			assertEquals(5, journal.size());
+			assertEquals(Status.APPLIED, journal.getStatus(0));
+			assertEquals(6975, journal.getBalanceAfter(0));
+			assertEquals(Status.APPLIED, journal.getStatus(1));
+			assertEquals(500, journal.getBalanceAfter(1));
+			assertEquals(Status.MISMATCHED_CURRENCY, journal.getStatus(2));
+			assertEquals(6975, journal.getBalanceAfter(2));
+			assertEquals(Status.UNKNOWN_ACCOUNT, journal.getStatus(3));
+			assertEquals(Status.APPLIED, journal.getStatus(4));
+			assertEquals(7025, journal.getBalanceAfter(4));
+			assertEquals(2, journal.getRejectedCount());
+
+			assertEquals(new Money(70.25, usd), engine.getBalance("alice"));
+			assertEquals(new Money(500, jpy), engine.getBalance("bob"));
+
+			try {
+				journal.checkApplied();
+				// the following 2 lines will never be excuted if there is exception
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (MismatchedCurrencyException ex) {
+				System.out.printf("MismatchedCurrencyException caught: %s\n", ex.getMessage());
+			}
+
+			try {
+				engine.post(Arrays.asList(Posting.credit("carol", new Money(1.00, usd)))).checkApplied();
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (IllegalArgumentException ex) {
+				System.out.printf("IllegalArgumentException caught: %s\n", ex.getMessage());
+			}
+
+			// overflow is rejected without changing the balance
+			journal = engine.post(Arrays.asList(Posting.credit("bob", Money.ofMinorUnits(Long.MAX_VALUE, jpy))));
+			assertEquals(Status.OVERFLOW, journal.getStatus(0));
+			assertEquals(new Money(500, jpy), engine.getBalance("bob"));
+			journal = engine.post(Arrays.asList(Posting.credit("bob", new Money(new BigDecimal("1e30"), jpy))));
+			assertEquals(Status.OVERFLOW, journal.getStatus(0));
+			assertEquals(new Money(500, jpy), engine.getBalance("bob"));
+
+			try {
+				new Posting("alice", null);
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (NullPointerException ex) {
+				System.out.printf("NullPointerException caught: %s\n", ex.getMessage());
+			}
+
+			// a null posting fails the whole batch before anything is applied
+			try {
+				engine.post(Arrays.asList(Posting.credit("alice", new Money(1.00, usd)), null,
+						Posting.credit("bob", new Money(1, jpy))));
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (NullPointerException ex) {
+				System.out.printf("NullPointerException caught: %s\n", ex.getMessage());
+			}
+			assertEquals(new Money(70.25, usd), engine.getBalance("alice"));
+			assertEquals(new Money(500, jpy), engine.getBalance("bob"));
+
+			try {
+				engine.openAccount("alice", new Money(1.00, usd));
+				System.out.println("This will never be excuted");
+				fail();
+			} catch (IllegalArgumentException ex) {
+				System.out.printf("IllegalArgumentException caught: %s\n", ex.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Test that results do not depend on the number of partitions, and compare
+	 * throughput with a loop of Money.add and Money.subtract
+	 */
+	@Test
+	public void test_0020_deterministic() {
+		final Currency[] currencies = { Currency.getInstance("USD"), Currency.getInstance("JPY") };
+		Random random = new Random(5004);
+
+		Money[] openings = new Money[accountCount];
+		for (int a = 0; a < accountCount; a++) {
+			openings[a] = Money.ofMinorUnits(random.nextInt(100000), currencies[a % 2]);
+		}
+		List<Posting> batch = new ArrayList<Posting>(postingCount);
+		for (int i = 0; i < postingCount; i++) {
+			int a = random.nextInt(accountCount);
+			// a few postings in the other currency
+			Currency currency = currencies[(random.nextInt(100) == 0) ? (a + 1) % 2 : a % 2];
+			Money money = Money.ofMinorUnits(random.nextInt(10000), currency);
+			batch.add(random.nextBoolean() ? Posting.credit("account" + a, money) : Posting.debit("account" + a, money));
+		}
+
+		// naive loop; report the best of several runs
+		Map<String, Money> expected = null;
+		int rejected = 0;
+		double naiveMillis = Double.MAX_VALUE;
+		for (int run = 0; run < timingRuns; run++) {
+			long start = System.nanoTime();
+			expected = new HashMap<String, Money>();
+			for (int a = 0; a < accountCount; a++) {
+				expected.put("account" + a, openings[a]);
+			}
+			rejected = 0;
+			for (Posting posting : batch) {
+				Money balance = expected.get(posting.getAccount());
+				try {
+					expected.put(posting.getAccount(), balance.add(posting.getAmount()));
+				} catch (MismatchedCurrencyException ex) {
+					rejected++;
+				}
+			}
+			naiveMillis = Math.min(naiveMillis, (System.nanoTime() - start) / 1e6);
+		}
+
+		Journal reference = null;
+		for (int partitions : new int[] { 1, 4 }) {
+			try (PostingEngine engine = new PostingEngine(partitions)) {
+				// each run posts to fresh accounts; the last run uses the engine that is checked
+				Journal journal = null;
+				double millis = Double.MAX_VALUE;
+				for (int run = 0; run < timingRuns; run++) {
+					PostingEngine timed = (run == timingRuns - 1) ? engine : new PostingEngine(partitions);
+					try {
+						for (int a = 0; a < accountCount; a++) {
+							timed.openAccount("account" + a, openings[a]);
+						}
+						long start = System.nanoTime();
+						journal = timed.post(batch);
+						millis = Math.min(millis, (System.nanoTime() - start) / 1e6);
+					} finally {
+						if (timed != engine) {
+							timed.close();
+						}
+					}
+				}
+				System.out.printf("Posting %d, best of %d runs: naive loop %.1f ms, engine with %d partitions %.1f ms\n",
+						postingCount, timingRuns, naiveMillis, partitions, millis);
+
+				assertEquals(rejected, journal.getRejectedCount());
+				for (int a = 0; a < accountCount; a++) {
+					assertEquals(expected.get("account" + a), engine.getBalance("account" + a));
+				}
+				if (reference == null) {
+					reference = journal;
+				} else {
+					for (int i = 0; i < postingCount; i++) {
+						assertEquals(reference.getStatus(i), journal.getStatus(i));
+						assertEquals(reference.getBalanceAfter(i), journal.getBalanceAfter(i));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Run the tests in this class.
+	 *
+	 * @param args the program arguments
+	 */
+	public static void main(String[] args) {
+	    Result result = JUnitCore.runClasses(PostingEngine_test.class);
+
+	    System.out.println("[Unit Test Results]");
+	    System.out.println();
+
+	    if (result.getFailureCount() > 0) {
+	    	System.out.println("Test failure details:");
+		    for (Failure failure : result.getFailures()) {
+		       System.out.println(failure.toString());
+		    }
+		    System.out.println();
+	    }
+
+	    int passCount = result.getRunCount()-result.getFailureCount()-result.getIgnoreCount();
+	    System.out.println("Test summary:");
+	    System.out.println("* Total tests = " + result.getRunCount());
+	    System.out.println("* Passed tests: " + passCount);
+	    System.out.println("* Failed tests = " + result.getFailureCount());
+	    System.out.println("* Inactive tests = " + result.getIgnoreCount());
+	}
+}